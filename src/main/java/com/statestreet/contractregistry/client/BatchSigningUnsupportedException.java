@@ -0,0 +1,11 @@
+package com.statestreet.contractregistry.client;
+
+/**
+ * Exception thrown when STT Hash Service has no batch signing endpoint
+ */
+public class BatchSigningUnsupportedException extends RuntimeException {
+
+    public BatchSigningUnsupportedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
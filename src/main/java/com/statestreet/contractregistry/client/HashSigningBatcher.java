@@ -0,0 +1,223 @@
+package com.statestreet.contractregistry.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Micro-batching front-end of {@link HashSigningServiceClient}.
+ * Concurrent signing requests are collected for up to max-delay-ms or max-batch-size items
+ * and sent as one batch request; each caller's future completes with its own signature.
+ * Batches are sent on a bounded pool of sender threads; the timer thread only triggers the flushes.
+ * If batching is disabled or the hash service has no batch endpoint, callers sign directly on their own thread.
+ */
+@Component
+public class HashSigningBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(HashSigningBatcher.class);
+
+    private final HashSigningServiceClient hashServiceClient;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor sender;
+
+    private final Object lock = new Object();
+    private List<PendingSignature> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private volatile boolean batchSupported = true;
+
+    @Value("${hash-service.batching.enabled:false}")
+    private boolean enabled;
+
+    @Value("${hash-service.batching.max-batch-size:50}")
+    private int maxBatchSize;
+
+    @Value("${hash-service.batching.max-delay-ms:5}")
+    private long maxDelayMs;
+
+    @Value("${hash-service.batching.timeout-ms:30000}")
+    private long timeoutMs;
+
+    public HashSigningBatcher(HashSigningServiceClient hashServiceClient,
+            @Value("${hash-service.batching.threads:4}") int threads,
+            @Value("${hash-service.batching.queue-capacity:100}") int queueCapacity) {
+        this.hashServiceClient = hashServiceClient;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("hash-sign-timer-"));
+        this.sender = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("hash-sign-batch-"));
+    }
+
+    /**
+     * Whether signatures go through batches; false once the hash service turned out to have no batch endpoint
+     */
+    public boolean isEnabled() {
+        return enabled && batchSupported;
+    }
+
+    /**
+     * Signs a hash, waiting for the batch it is sent in
+     */
+    public String signHash(String hash, String metadata) {
+        if (!isEnabled()) {
+            return hashServiceClient.signHash(hash, metadata);
+        }
+        try {
+            return submit(hash, metadata).orTimeout(timeoutMs, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new RuntimeException("Timed out waiting for STT Hash Service to sign hash", e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Queues a hash for the next batch, or signs it on a sender thread when batching is not in use
+     */
+    public CompletableFuture<String> submit(String hash, String metadata) {
+        PendingSignature signature = new PendingSignature(hash, metadata);
+        if (!isEnabled()) {
+            dispatch(List.of(signature));
+            return signature.future;
+        }
+
+        List<PendingSignature> fullBatch = null;
+        synchronized (lock) {
+            pending.add(signature);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, maxDelayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return signature.future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flush();
+        sender.shutdown();
+    }
+
+    private void flush() {
+        List<PendingSignature> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Hands a batch to the sender pool, failing its signatures if the pool's queue is full
+     */
+    private void dispatch(List<PendingSignature> batch) {
+        try {
+            sender.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            log.warn("Hash signing sender queue is full, rejecting {} signatures", batch.size());
+            for (PendingSignature signature : batch) {
+                signature.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Takes the pending signatures and cancels the timed flush; callers hold the lock
+     */
+    private List<PendingSignature> takePending() {
+        List<PendingSignature> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<PendingSignature> batch) {
+        if (batch.size() == 1 || !batchSupported) {
+            signIndividually(batch);
+            return;
+        }
+
+        List<String> hashes = new ArrayList<>(batch.size());
+        List<String> metadata = new ArrayList<>(batch.size());
+        for (PendingSignature signature : batch) {
+            hashes.add(signature.hash);
+            metadata.add(signature.metadata);
+        }
+
+        try {
+            List<String> signedHashes = hashServiceClient.signHashes(hashes, metadata);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(signedHashes.get(i));
+            }
+        } catch (BatchSigningUnsupportedException e) {
+            log.warn("STT Hash Service does not support batch signing, falling back to single calls");
+            batchSupported = false;
+            signIndividually(batch);
+        } catch (Exception e) {
+            for (PendingSignature signature : batch) {
+                signature.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void signIndividually(List<PendingSignature> batch) {
+        List<PendingSignature> overflow = new ArrayList<>();
+        for (int i = 1; i < batch.size(); i++) {
+            PendingSignature signature = batch.get(i);
+            try {
+                sender.execute(() -> signSingle(signature));
+            } catch (RejectedExecutionException e) {
+                overflow.add(signature);
+            }
+        }
+        signSingle(batch.get(0));
+        overflow.forEach(this::signSingle);
+    }
+
+    private void signSingle(PendingSignature signature) {
+        try {
+            signature.future.complete(hashServiceClient.signHash(signature.hash, signature.metadata));
+        } catch (Exception e) {
+            signature.future.completeExceptionally(e);
+        }
+    }
+
+    private static final class PendingSignature {
+        private final String hash;
+        private final String metadata;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        private PendingSignature(String hash, String metadata) {
+            this.hash = hash;
+            this.metadata = metadata;
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package com.statestreet.contractregistry.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
+@Bulkhead(name = "hash-service")
+@CircuitBreaker(name = "hash-service")
 public class HashSigningServiceClient {
 
     private static final Logger log = LoggerFactory.getLogger(HashSigningServiceClient.class);
@@ -28,6 +36,9 @@ public class HashSigningServiceClient {
     @Value("${hash-service.api.sign-endpoint}")
     private String signEndpoint;
 
+    @Value("${hash-service.api.batch-sign-endpoint:/api/sign/batch}")
+    private String batchSignEndpoint;
+
     /**
      * Sends hash and metadata to STT Hash Service for signing
      */
@@ -63,4 +74,62 @@ public class HashSigningServiceClient {
             throw new RuntimeException("Failed to sign hash with STT Hash Service", e);
         }
     }
+
+    /**
+     * Sends several hashes to STT Hash Service in one request.
+     * Signed hashes are returned in the order of the requests.
+     *
+     * @throws BatchSigningUnsupportedException if the service has no batch endpoint
+     */
+    public List<String> signHashes(List<String> hashes, List<String> metadata) {
+        log.info("Sending {} hashes to STT Hash Service for batch signing", hashes.size());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        List<Map<String, String>> items = new ArrayList<>(hashes.size());
+        for (int i = 0; i < hashes.size(); i++) {
+            Map<String, String> item = new HashMap<>();
+            item.put("hash", hashes.get(i));
+            item.put("metadata", metadata.get(i));
+            items.add(item);
+        }
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("items", items);
+
+        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
+
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.exchange(
+                    baseUrl + batchSignEndpoint,
+                    HttpMethod.POST,
+                    requestEntity,
+                    JsonNode.class);
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                JsonNode signedHashNodes = response.getBody().path("signed_hashes");
+                if (signedHashNodes.size() != hashes.size()) {
+                    throw new RuntimeException("STT Hash Service returned " + signedHashNodes.size()
+                            + " signatures for " + hashes.size() + " hashes");
+                }
+
+                List<String> signedHashes = new ArrayList<>(hashes.size());
+                for (JsonNode signedHash : signedHashNodes) {
+                    signedHashes.add(signedHash.asText());
+                }
+                log.info("Successfully received {} signed hashes from STT Hash Service", signedHashes.size());
+                return signedHashes;
+            } else {
+                log.error("Failed to sign hashes: {}", response.getStatusCode());
+                throw new RuntimeException("Failed to sign hashes with STT Hash Service");
+            }
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed
+                | HttpServerErrorException.NotImplemented e) {
+            throw new BatchSigningUnsupportedException("STT Hash Service does not support batch signing", e);
+        } catch (Exception e) {
+            log.error("Error signing hashes", e);
+            throw new RuntimeException("Failed to sign hashes with STT Hash Service", e);
+        }
+    }
 }
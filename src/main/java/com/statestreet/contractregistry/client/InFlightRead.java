@@ -0,0 +1,78 @@
+package com.statestreet.contractregistry.client;
+
+import java.util.function.Supplier;
+
+/**
+ * Abort hook of a read that {@link TaurusReadHedger} may have to abandon.
+ * While a read runs, the request factories register how to abort the HTTP request they create on
+ * the same thread, so the hedger can close the losing request and free its connection rather than
+ * leave it blocked until the read timeout.
+ */
+public final class InFlightRead {
+
+    private static final ThreadLocal<InFlightRead> CURRENT = new ThreadLocal<>();
+
+    private Runnable abortRequest;
+    private boolean aborted;
+
+    /**
+     * Registers how to abort the request the current thread is about to send; no-op outside a hedged read
+     */
+    public static void onAbort(Runnable abortRequest) {
+        InFlightRead read = CURRENT.get();
+        if (read != null) {
+            read.register(abortRequest);
+        }
+    }
+
+    /**
+     * Runs a call that must not be aborted with the read it is made for, such as the shared token refresh
+     */
+    public static <T> T detached(Supplier<T> call) {
+        InFlightRead read = CURRENT.get();
+        CURRENT.remove();
+        try {
+            return call.get();
+        } finally {
+            if (read != null) {
+                CURRENT.set(read);
+            }
+        }
+    }
+
+    /**
+     * Runs the read on the current thread, collecting the abort hooks of its requests
+     */
+    <T> T run(Supplier<T> read) {
+        CURRENT.set(this);
+        try {
+            return read.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Aborts the request in flight, and any request the read sends afterwards
+     */
+    void abort() {
+        Runnable toAbort;
+        synchronized (this) {
+            aborted = true;
+            toAbort = abortRequest;
+        }
+        if (toAbort != null) {
+            toAbort.run();
+        }
+    }
+
+    private void register(Runnable abort) {
+        synchronized (this) {
+            if (!aborted) {
+                abortRequest = abort;
+                return;
+            }
+        }
+        abort.run();
+    }
+}
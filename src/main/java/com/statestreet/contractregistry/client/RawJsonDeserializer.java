@@ -0,0 +1,25 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Captures a JSON value of any shape as its JSON text.
+ * Tokens are streamed straight from the parser to a writer, so no JsonNode tree is built.
+ */
+public class RawJsonDeserializer extends JsonDeserializer<String> {
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = parser.getCodec().getFactory().createGenerator(json)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return json.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Non-blocking variant of {@link HashSigningServiceClient}
+ */
+@Component
+@Bulkhead(name = "hash-service")
+@CircuitBreaker(name = "hash-service")
+public class ReactiveHashSigningServiceClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveHashSigningServiceClient.class);
+
+    private final WebClient webClient;
+
+    public ReactiveHashSigningServiceClient(WebClient downstreamWebClient) {
+        this.webClient = downstreamWebClient;
+    }
+
+    @Value("${hash-service.api.base-url}")
+    private String baseUrl;
+
+    @Value("${hash-service.api.sign-endpoint}")
+    private String signEndpoint;
+
+    /**
+     * Sends hash and metadata to STT Hash Service for signing
+     */
+    public Mono<String> signHash(String hash, String metadata) {
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("hash", hash);
+        requestBody.put("metadata", metadata);
+
+        return Mono.defer(() -> {
+                    log.info("Sending hash to STT Hash Service for signing");
+                    return webClient.post()
+                            .uri(baseUrl + signEndpoint)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToMono(JsonNode.class);
+                })
+                .map(body -> body.path("signed_hash").asText())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to sign hash with STT Hash Service")))
+                .doOnNext(signedHash -> log.info("Successfully received signed hash from STT Hash Service"))
+                .onErrorMap(e -> {
+                    log.error("Error signing hash", e);
+                    return new RuntimeException("Failed to sign hash with STT Hash Service", e);
+                });
+    }
+}
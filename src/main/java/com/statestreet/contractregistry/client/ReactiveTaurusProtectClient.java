@@ -0,0 +1,222 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.statestreet.contractregistry.config.TaurusRetryConfig;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Non-blocking variant of {@link TaurusProtectClient}.
+ * Uses the same shared auth token and re-authenticates once when Taurus Protect rejects it.
+ */
+@Component
+@Bulkhead(name = "taurus")
+@CircuitBreaker(name = "taurus")
+public class ReactiveTaurusProtectClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveTaurusProtectClient.class);
+
+    private final WebClient webClient;
+    private final TaurusAuthTokenProvider tokenProvider;
+    private final RetryBudget retryBudget;
+    private final TaurusReadHedger readHedger;
+    private final TaurusWhitelistDetailsCache whitelistDetailsCache;
+
+    public ReactiveTaurusProtectClient(WebClient downstreamWebClient, TaurusAuthTokenProvider tokenProvider,
+            RetryBudget retryBudget, TaurusReadHedger readHedger, TaurusWhitelistDetailsCache whitelistDetailsCache) {
+        this.webClient = downstreamWebClient;
+        this.tokenProvider = tokenProvider;
+        this.retryBudget = retryBudget;
+        this.readHedger = readHedger;
+        this.whitelistDetailsCache = whitelistDetailsCache;
+    }
+
+    @Value("${taurus.api.base-url}")
+    private String baseUrl;
+
+    @Value("${taurus.api.deploy-endpoint}")
+    private String deployEndpoint;
+
+    @Value("${taurus.api.request-endpoint}")
+    private String requestEndpoint;
+
+    @Value("${taurus.api.approve-endpoint}")
+    private String approveEndpoint;
+
+    @Value("${taurus.api.whitelist-endpoint}")
+    private String whitelistEndpoint;
+
+    @Value("${taurus.api.whitelist-approve-endpoint}")
+    private String whitelistApproveEndpoint;
+
+    /**
+     * Returns the shared Taurus Protect auth token
+     */
+    public Mono<String> getAuthToken() {
+        // A cache hit returns immediately; a refresh blocks, so keep it off the event loop
+        return Mono.fromCallable(tokenProvider::getToken)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Sends a deployment request to Taurus Protect API, retrying transient failures
+     */
+    @Retry(name = TaurusRetryConfig.DEPLOY)
+    public Mono<String> deploySmartContract(String contractBytecode, String contractName, String constructorArgs,
+            String idempotencyKey) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("bytecode", contractBytecode);
+        requestBody.put("name", contractName);
+
+        if (constructorArgs != null && !constructorArgs.isEmpty()) {
+            requestBody.put("constructor_args", constructorArgs);
+        }
+
+        return exchangeAuthenticated(HttpMethod.POST, URI.create(baseUrl + deployEndpoint), requestBody, idempotencyKey, JsonNode.class)
+                .doOnSubscribe(s -> retryBudget.recordAttempt())
+                .doOnSubscribe(s -> log.info("Sending deployment request to Taurus Protect for contract: {}", contractName))
+                .map(body -> body.path("request_id").asText())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to deploy smart contract with Taurus Protect API")))
+                .doOnNext(requestId -> log.info("Successfully sent deployment request, received request ID: {}", requestId))
+                .onErrorMap(e -> {
+                    log.error("Error deploying smart contract", e);
+                    return new RuntimeException("Failed to deploy smart contract with Taurus Protect API", e);
+                });
+    }
+
+    /**
+     * Gets request details including hash and metadata. Slow responses are hedged, see {@link TaurusReadHedger}.
+     */
+    public Mono<TaurusRequestDetails> getRequestDetails(String requestId) {
+        return readHedger.hedge("request-details",
+                        exchangeAuthenticated(HttpMethod.GET, idsUri(requestEndpoint, requestId), null, null, TaurusRequestsResponse.class))
+                .doOnSubscribe(s -> log.info("Getting request details for request ID: {}", requestId))
+                .map(body -> TaurusProtectClient.firstOf(body.getRequests(), "request", requestId))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to get request details from Taurus Protect API")))
+                .doOnNext(details -> log.info("Successfully retrieved request details for request ID: {}", requestId))
+                .onErrorMap(e -> {
+                    log.error("Error getting request details", e);
+                    return new RuntimeException("Failed to get request details from Taurus Protect API", e);
+                });
+    }
+
+    /**
+     * Approves a deployment request with the signed hash, retrying transient failures
+     */
+    @Retry(name = TaurusRetryConfig.APPROVE)
+    public Mono<String> approveDeployment(String requestId, String signedHash, String idempotencyKey) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("request_id", requestId);
+        requestBody.put("signature", signedHash);
+
+        return exchangeAuthenticated(HttpMethod.POST, URI.create(baseUrl + approveEndpoint), requestBody, idempotencyKey, JsonNode.class)
+                .doOnSubscribe(s -> retryBudget.recordAttempt())
+                .doOnSubscribe(s -> log.info("Approving deployment for request ID: {}", requestId))
+                .map(body -> body.path("signatures").toString())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to approve deployment with Taurus Protect API")))
+                .doOnNext(signatures -> log.info("Successfully approved deployment for request ID: {}", requestId))
+                .onErrorMap(e -> {
+                    log.error("Error approving deployment", e);
+                    return new RuntimeException("Failed to approve deployment with Taurus Protect API", e);
+                });
+    }
+
+    /**
+     * Gets whitelist approval details, from the cache if they were fetched before
+     */
+    public Mono<TaurusWhitelistDetails> getWhitelistApprovalDetails(String whitelistId) {
+        TaurusWhitelistDetails cached = whitelistDetailsCache.get(whitelistId);
+        if (cached != null) {
+            log.debug("Using cached whitelist approval details for whitelist ID: {}", whitelistId);
+            return Mono.just(cached);
+        }
+
+        return readHedger.hedge("whitelist-details",
+                        exchangeAuthenticated(HttpMethod.GET, idsUri(whitelistEndpoint, whitelistId), null, null, TaurusWhitelistsResponse.class))
+                .doOnSubscribe(s -> log.info("Getting whitelist approval details for whitelist ID: {}", whitelistId))
+                .map(body -> TaurusProtectClient.firstOf(body.getWhitelists(), "whitelist", whitelistId))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to get whitelist details from Taurus Protect API")))
+                .doOnNext(details -> whitelistDetailsCache.put(whitelistId, details))
+                .doOnNext(details -> log.info("Successfully retrieved whitelist approval details for whitelist ID: {}", whitelistId))
+                .onErrorMap(e -> {
+                    log.error("Error getting whitelist approval details", e);
+                    return new RuntimeException("Failed to get whitelist details from Taurus Protect API", e);
+                });
+    }
+
+    /**
+     * Approves a whitelist with the signed hash, retrying transient failures
+     */
+    @Retry(name = TaurusRetryConfig.WHITELIST_APPROVE)
+    public Mono<String> approveWhitelist(String whitelistId, String signedHash, String idempotencyKey) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("whitelist_id", whitelistId);
+        requestBody.put("signature", signedHash);
+
+        return exchangeAuthenticated(HttpMethod.POST, URI.create(baseUrl + whitelistApproveEndpoint), requestBody, idempotencyKey, JsonNode.class)
+                .doOnSubscribe(s -> retryBudget.recordAttempt())
+                .doOnSubscribe(s -> log.info("Approving whitelist for whitelist ID: {}", whitelistId))
+                .map(body -> body.path("signatures").toString())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to approve whitelist with Taurus Protect API")))
+                .doOnNext(signatures -> log.info("Successfully approved whitelist for whitelist ID: {}", whitelistId))
+                .onErrorMap(e -> {
+                    log.error("Error approving whitelist", e);
+                    return new RuntimeException("Failed to approve whitelist with Taurus Protect API", e);
+                });
+    }
+
+    /**
+     * Sends a request with the shared auth token, retrying once with a fresh token on 401
+     */
+    private <T> Mono<T> exchangeAuthenticated(HttpMethod method, URI url, Object body, String idempotencyKey,
+            Class<T> responseType) {
+        return getAuthToken().flatMap(authToken -> send(method, url, body, idempotencyKey, authToken, responseType)
+                .onErrorResume(WebClientResponseException.Unauthorized.class, e -> {
+                    log.warn("Taurus Protect rejected the auth token, re-authenticating");
+                    tokenProvider.invalidate(authToken);
+                    return getAuthToken().flatMap(freshToken ->
+                            send(method, url, body, idempotencyKey, freshToken, responseType));
+                }));
+    }
+
+    private <T> Mono<T> send(HttpMethod method, URI url, Object body, String idempotencyKey, String authToken,
+            Class<T> responseType) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(url)
+                .headers(headers -> {
+                    headers.setBearerAuth(authToken);
+                    if (idempotencyKey != null) {
+                        headers.set(TaurusProtectClient.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                });
+
+        WebClient.RequestHeadersSpec<?> spec = body != null
+                ? request.contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+                : request;
+        return spec.retrieve().bodyToMono(responseType);
+    }
+
+    private URI idsUri(String endpoint, Object... ids) {
+        return UriComponentsBuilder.fromHttpUrl(baseUrl + endpoint)
+                .queryParam("ids", ids)
+                .encode()
+                .build()
+                .toUri();
+    }
+}
@@ -0,0 +1,64 @@
+package com.statestreet.contractregistry.client;
+
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Non-blocking variant of {@link TokenRegistryClient}
+ */
+@Component
+@Bulkhead(name = "token-registry")
+@CircuitBreaker(name = "token-registry")
+public class ReactiveTokenRegistryClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveTokenRegistryClient.class);
+
+    private final WebClient webClient;
+
+    public ReactiveTokenRegistryClient(WebClient downstreamWebClient) {
+        this.webClient = downstreamWebClient;
+    }
+
+    @Value("${token-registry.api.base-url}")
+    private String baseUrl;
+
+    @Value("${token-registry.api.register-endpoint}")
+    private String registerEndpoint;
+
+    /**
+     * Registers token and metadata with STT Token Registry
+     */
+    public Mono<Boolean> registerToken(String contractAddress, String metadata) {
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("contract_address", contractAddress);
+        requestBody.put("metadata", metadata);
+
+        return Mono.defer(() -> {
+                    log.info("Registering token with STT Token Registry for contract address: {}", contractAddress);
+                    return webClient.post()
+                            .uri(baseUrl + registerEndpoint)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .toBodilessEntity();
+                })
+                .map(response -> {
+                    log.info("Successfully registered token with STT Token Registry");
+                    return true;
+                })
+                .onErrorMap(e -> {
+                    log.error("Error registering token", e);
+                    return new RuntimeException("Failed to register token with STT Token Registry", e);
+                });
+    }
+}
@@ -0,0 +1,52 @@
+package com.statestreet.contractregistry.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token bucket that caps retries to Taurus Protect at a fraction of all attempts.
+ * Every attempt earns a fraction of a token and every retry spends a whole one, so
+ * while Taurus Protect is failing broadly retries stop instead of multiplying its load.
+ */
+@Component
+public class RetryBudget {
+
+    private final double depositPerAttempt;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(@Value("${taurus.api.retry.budget.ratio:0.1}") double depositPerAttempt,
+            @Value("${taurus.api.retry.budget.max-tokens:20}") double maxTokens,
+            MeterRegistry meterRegistry) {
+        this.depositPerAttempt = depositPerAttempt;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+        Gauge.builder("taurus.retry.budget.tokens", this, RetryBudget::available)
+                .description("Retries currently allowed by the Taurus Protect retry budget")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records an attempt, earning part of a retry
+     */
+    public synchronized void recordAttempt() {
+        tokens = Math.min(maxTokens, tokens + depositPerAttempt);
+    }
+
+    /**
+     * Spends a retry if the budget allows it
+     */
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double available() {
+        return tokens;
+    }
+}
@@ -0,0 +1,204 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Shared, expiry-aware cache of the Taurus Protect auth token.
+ * The token is refreshed ahead of its expiry by the first caller that notices,
+ * while other callers keep using the still valid token. Only one refresh runs at
+ * a time: concurrent callers without a usable token wait for the same refresh.
+ */
+@Component
+public class TaurusAuthTokenProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(TaurusAuthTokenProvider.class);
+
+    private final RestTemplate restTemplate;
+    private final Clock clock = Clock.systemUTC();
+
+    private volatile CachedToken current;
+    private CompletableFuture<CachedToken> inFlight;
+
+    @Value("${taurus.api.base-url}")
+    private String baseUrl;
+
+    @Value("${taurus.api.auth-endpoint}")
+    private String authEndpoint;
+
+    @Value("${taurus.api.client-id}")
+    private String clientId;
+
+    @Value("${taurus.api.client-secret}")
+    private String clientSecret;
+
+    @Value("${taurus.api.token.default-ttl-seconds:300}")
+    private long defaultTtlSeconds;
+
+    @Value("${taurus.api.token.refresh-ahead-seconds:60}")
+    private long refreshAheadSeconds;
+
+    public TaurusAuthTokenProvider(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    /**
+     * Returns a valid auth token, authenticating with Taurus Protect only when the
+     * cached token is missing, expired or about to expire
+     */
+    public String getToken() {
+        CachedToken cached = current;
+        Instant now = clock.instant();
+
+        if (cached != null && now.isBefore(cached.refreshAt)) {
+            return cached.token;
+        }
+
+        if (cached != null && now.isBefore(cached.expiresAt)) {
+            // Inside the refresh window: one caller refreshes, the others keep the current token
+            CompletableFuture<CachedToken> refresh = tryBeginRefresh();
+            if (refresh == null) {
+                return cached.token;
+            }
+            try {
+                return runRefresh(refresh).token;
+            } catch (RuntimeException e) {
+                log.warn("Proactive auth token refresh failed, using current token until it expires");
+                return cached.token;
+            }
+        }
+
+        return refreshOrJoin().token;
+    }
+
+    /**
+     * Drops the cached token if it is the one that was rejected, so the next call authenticates again
+     */
+    public void invalidate(String rejectedToken) {
+        CachedToken cached = current;
+        if (cached != null && cached.token.equals(rejectedToken)) {
+            log.info("Invalidating rejected Taurus Protect auth token");
+            current = null;
+        }
+    }
+
+    /**
+     * Claims the refresh, returning null if another caller is already refreshing
+     */
+    private synchronized CompletableFuture<CachedToken> tryBeginRefresh() {
+        if (inFlight != null) {
+            return null;
+        }
+        inFlight = new CompletableFuture<>();
+        return inFlight;
+    }
+
+    /**
+     * Refreshes the token, or waits for the refresh already started by another caller
+     */
+    private CachedToken refreshOrJoin() {
+        CompletableFuture<CachedToken> refresh;
+        boolean owner;
+        synchronized (this) {
+            owner = inFlight == null;
+            if (owner) {
+                inFlight = new CompletableFuture<>();
+            }
+            refresh = inFlight;
+        }
+
+        if (owner) {
+            return runRefresh(refresh);
+        }
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private CachedToken runRefresh(CompletableFuture<CachedToken> refresh) {
+        try {
+            // Shared by every waiting caller, so it is not aborted with a losing hedged read
+            CachedToken token = InFlightRead.detached(this::authenticate);
+            current = token;
+            refresh.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (this) {
+                inFlight = null;
+            }
+        }
+    }
+
+    /**
+     * Authenticates with Taurus Protect API and returns the token with its expiry
+     */
+    private CachedToken authenticate() {
+        log.info("Getting authentication token from Taurus Protect");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("client_id", clientId);
+        requestBody.put("client_secret", clientSecret);
+
+        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
+
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.exchange(
+                    baseUrl + authEndpoint,
+                    HttpMethod.POST,
+                    requestEntity,
+                    JsonNode.class
+            );
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                String token = response.getBody().path("access_token").asText();
+                long ttlSeconds = response.getBody().path("expires_in").asLong(defaultTtlSeconds);
+                Instant expiresAt = clock.instant().plusSeconds(ttlSeconds);
+                Instant refreshAt = expiresAt.minusSeconds(Math.min(refreshAheadSeconds, ttlSeconds / 2));
+                log.info("Successfully retrieved auth token, valid for {}", Duration.ofSeconds(ttlSeconds));
+                return new CachedToken(token, refreshAt, expiresAt);
+            } else {
+                log.error("Failed to get auth token: {}", response.getStatusCode());
+                throw new RuntimeException("Failed to authenticate with Taurus Protect API");
+            }
+        } catch (Exception e) {
+            log.error("Error getting auth token", e);
+            throw new RuntimeException("Failed to authenticate with Taurus Protect API", e);
+        }
+    }
+
+    private static final class CachedToken {
+        private final String token;
+        private final Instant refreshAt;
+        private final Instant expiresAt;
+
+        private CachedToken(String token, Instant refreshAt, Instant expiresAt) {
+            this.token = token;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
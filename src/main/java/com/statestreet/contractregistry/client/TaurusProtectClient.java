@@ -1,33 +1,53 @@
 package com.statestreet.contractregistry.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.statestreet.contractregistry.config.TaurusRetryConfig;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
+@Bulkhead(name = "taurus")
+@CircuitBreaker(name = "taurus")
 public class TaurusProtectClient {
 
     private static final Logger log = LoggerFactory.getLogger(TaurusProtectClient.class);
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final RestTemplate restTemplate;
+    private final TaurusAuthTokenProvider tokenProvider;
+    private final RetryBudget retryBudget;
+    private final TaurusReadHedger readHedger;
+    private final TaurusWhitelistDetailsCache whitelistDetailsCache;
 
-    public TaurusProtectClient(RestTemplate restTemplate) {
+    public TaurusProtectClient(RestTemplate restTemplate, TaurusAuthTokenProvider tokenProvider, RetryBudget retryBudget,
+            TaurusReadHedger readHedger, TaurusWhitelistDetailsCache whitelistDetailsCache) {
         this.restTemplate = restTemplate;
+        this.tokenProvider = tokenProvider;
+        this.retryBudget = retryBudget;
+        this.readHedger = readHedger;
+        this.whitelistDetailsCache = whitelistDetailsCache;
     }
 
     @Value("${taurus.api.base-url}")
     private String baseUrl;
 
-    @Value("${taurus.api.auth-endpoint}")
-    private String authEndpoint;
-
     @Value("${taurus.api.deploy-endpoint}")
     private String deployEndpoint;
 
@@ -43,58 +63,22 @@ public class TaurusProtectClient {
     @Value("${taurus.api.whitelist-approve-endpoint}")
     private String whitelistApproveEndpoint;
 
-    @Value("${taurus.api.client-id}")
-    private String clientId;
-
-    @Value("${taurus.api.client-secret}")
-    private String clientSecret;
-
     /**
-     * Authenticates with Taurus Protect API and returns an auth token
+     * Returns the shared Taurus Protect auth token, authenticating only when the cached token is about to expire
      */
     public String getAuthToken() {
-        log.info("Getting authentication token from Taurus Protect");
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        
-        Map<String, String> requestBody = new HashMap<>();
-        requestBody.put("client_id", clientId);
-        requestBody.put("client_secret", clientSecret);
-        
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
-        
-        try {
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    baseUrl + authEndpoint,
-                    HttpMethod.POST,
-                    requestEntity,
-                    JsonNode.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                String token = response.getBody().path("access_token").asText();
-                log.info("Successfully retrieved auth token");
-                return token;
-            } else {
-                log.error("Failed to get auth token: {}", response.getStatusCode());
-                throw new RuntimeException("Failed to authenticate with Taurus Protect API");
-            }
-        } catch (Exception e) {
-            log.error("Error getting auth token", e);
-            throw new RuntimeException("Failed to authenticate with Taurus Protect API", e);
-        }
+        return tokenProvider.getToken();
     }
 
     /**
-     * Sends a deployment request to Taurus Protect API
+     * Sends a deployment request to Taurus Protect API.
+     * Transient failures are retried; the idempotency key lets Taurus Protect drop duplicates.
      */
-    public String deploySmartContract(String authToken, String contractBytecode, String contractName, String constructorArgs) {
+    @Retry(name = TaurusRetryConfig.DEPLOY)
+    public String deploySmartContract(String contractBytecode, String contractName, String constructorArgs,
+            String idempotencyKey) {
         log.info("Sending deployment request to Taurus Protect for contract: {}", contractName);
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(authToken);
+        retryBudget.recordAttempt();
         
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("bytecode", contractBytecode);
@@ -104,15 +88,8 @@ public class TaurusProtectClient {
             requestBody.put("constructor_args", constructorArgs);
         }
         
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-        
         try {
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    baseUrl + deployEndpoint,
-                    HttpMethod.POST,
-                    requestEntity,
-                    JsonNode.class
-            );
+            ResponseEntity<JsonNode> response = exchangeAuthenticated(URI.create(baseUrl + deployEndpoint), HttpMethod.POST, requestBody, idempotencyKey, JsonNode.class);
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 String requestId = response.getBody().path("request_id").asText();
@@ -129,43 +106,17 @@ public class TaurusProtectClient {
     }
 
     /**
-     * Gets request details including hash and metadata
+     * Gets request details including hash and metadata. Slow responses are hedged, see {@link TaurusReadHedger}.
      */
-    public Map<String, Object> getRequestDetails(String authToken, String requestId) {
+    public TaurusRequestDetails getRequestDetails(String requestId) {
         log.info("Getting request details for request ID: {}", requestId);
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(authToken);
-        
-        HttpEntity<?> requestEntity = new HttpEntity<>(headers);
-        
         try {
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    baseUrl + requestEndpoint + "?ids=" + requestId,
-                    HttpMethod.GET,
-                    requestEntity,
-                    JsonNode.class
-            );
+            ResponseEntity<TaurusRequestsResponse> response = readHedger.call("request-details", () -> exchangeAuthenticated(
+                    idsUri(requestEndpoint, requestId), HttpMethod.GET, null, null, TaurusRequestsResponse.class));
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode requestNode = response.getBody().path("requests").path(0);
-                
-                Map<String, Object> requestDetails = new HashMap<>();
-                requestDetails.put("hash", requestNode.path("hash").asText());
-                requestDetails.put("metadata", requestNode.path("metadata").toString());
-                requestDetails.put("status", requestNode.path("status").asText());
-                
-                if (requestNode.has("whitelist_id")) {
-                    requestDetails.put("whitelist_id", requestNode.path("whitelist_id").asText());
-                }
-                
-                if (requestNode.has("contract_address")) {
-                    requestDetails.put("contract_address", requestNode.path("contract_address").asText());
-                }
-                
-                if (requestNode.has("transaction_hash")) {
-                    requestDetails.put("transaction_hash", requestNode.path("transaction_hash").asText());
-                }
+                TaurusRequestDetails requestDetails = firstOf(response.getBody().getRequests(), "request", requestId);
                 
                 log.info("Successfully retrieved request details for request ID: {}", requestId);
                 return requestDetails;
@@ -180,28 +131,51 @@ public class TaurusProtectClient {
     }
 
     /**
-     * Approves a deployment request with the signed hash
+     * Gets the details of several requests in a single call, keyed by request ID.
+     * Requests unknown to Taurus Protect are absent from the result.
      */
-    public String approveDeployment(String authToken, String requestId, String signedHash) {
-        log.info("Approving deployment for request ID: {}", requestId);
+    public Map<String, TaurusRequestDetails> getRequestDetails(Collection<String> requestIds) {
+        log.info("Getting request details for {} request IDs", requestIds.size());
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(authToken);
+        try {
+            ResponseEntity<TaurusRequestsResponse> response = readHedger.call("request-details-batch", () -> exchangeAuthenticated(
+                    idsUri(requestEndpoint, requestIds.toArray()), HttpMethod.GET, null, null, TaurusRequestsResponse.class));
+            
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                List<TaurusRequestDetails> requests = response.getBody().getRequests();
+                Map<String, TaurusRequestDetails> requestDetailsById = new HashMap<>(requests.size() * 2);
+                for (TaurusRequestDetails requestDetails : requests) {
+                    requestDetailsById.put(requestDetails.getId(), requestDetails);
+                }
+                
+                log.info("Successfully retrieved request details for {} of {} request IDs",
+                        requestDetailsById.size(), requestIds.size());
+                return requestDetailsById;
+            } else {
+                log.error("Failed to get request details: {}", response.getStatusCode());
+                throw new RuntimeException("Failed to get request details from Taurus Protect API");
+            }
+        } catch (Exception e) {
+            log.error("Error getting request details", e);
+            throw new RuntimeException("Failed to get request details from Taurus Protect API", e);
+        }
+    }
+
+    /**
+     * Approves a deployment request with the signed hash.
+     * Transient failures are retried; the idempotency key lets Taurus Protect drop duplicates.
+     */
+    @Retry(name = TaurusRetryConfig.APPROVE)
+    public String approveDeployment(String requestId, String signedHash, String idempotencyKey) {
+        log.info("Approving deployment for request ID: {}", requestId);
+        retryBudget.recordAttempt();
         
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("request_id", requestId);
         requestBody.put("signature", signedHash);
         
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-        
         try {
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    baseUrl + approveEndpoint,
-                    HttpMethod.POST,
-                    requestEntity,
-                    JsonNode.class
-            );
+            ResponseEntity<JsonNode> response = exchangeAuthenticated(URI.create(baseUrl + approveEndpoint), HttpMethod.POST, requestBody, idempotencyKey, JsonNode.class);
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 String approvedSignatures = response.getBody().path("signatures").toString();
@@ -218,30 +192,24 @@ public class TaurusProtectClient {
     }
 
     /**
-     * Gets whitelist approval details
+     * Gets whitelist approval details, from the cache if they were fetched before
      */
-    public Map<String, Object> getWhitelistApprovalDetails(String authToken, String whitelistId) {
-        log.info("Getting whitelist approval details for whitelist ID: {}", whitelistId);
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(authToken);
+    public TaurusWhitelistDetails getWhitelistApprovalDetails(String whitelistId) {
+        TaurusWhitelistDetails cached = whitelistDetailsCache.get(whitelistId);
+        if (cached != null) {
+            log.debug("Using cached whitelist approval details for whitelist ID: {}", whitelistId);
+            return cached;
+        }
         
-        HttpEntity<?> requestEntity = new HttpEntity<>(headers);
+        log.info("Getting whitelist approval details for whitelist ID: {}", whitelistId);
         
         try {
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    baseUrl + whitelistEndpoint + "?ids=" + whitelistId,
-                    HttpMethod.GET,
-                    requestEntity,
-                    JsonNode.class
-            );
+            ResponseEntity<TaurusWhitelistsResponse> response = readHedger.call("whitelist-details", () -> exchangeAuthenticated(
+                    idsUri(whitelistEndpoint, whitelistId), HttpMethod.GET, null, null, TaurusWhitelistsResponse.class));
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode whitelistNode = response.getBody().path("whitelists").path(0);
-                
-                Map<String, Object> whitelistDetails = new HashMap<>();
-                whitelistDetails.put("hash", whitelistNode.path("hash").asText());
-                whitelistDetails.put("metadata", whitelistNode.path("metadata").toString());
+                TaurusWhitelistDetails whitelistDetails = firstOf(response.getBody().getWhitelists(), "whitelist", whitelistId);
+                whitelistDetailsCache.put(whitelistId, whitelistDetails);
                 
                 log.info("Successfully retrieved whitelist approval details for whitelist ID: {}", whitelistId);
                 return whitelistDetails;
@@ -256,28 +224,62 @@ public class TaurusProtectClient {
     }
 
     /**
-     * Approves a whitelist with the signed hash
+     * Gets the approval details of several whitelists, fetching only those not cached yet in a single call.
+     * Everything returned is cached, so the whitelist step of each deployment finds its details there.
+     * Whitelists unknown to Taurus Protect are absent from the result.
      */
-    public String approveWhitelist(String authToken, String whitelistId, String signedHash) {
-        log.info("Approving whitelist for whitelist ID: {}", whitelistId);
+    public Map<String, TaurusWhitelistDetails> getWhitelistApprovalDetails(Collection<String> whitelistIds) {
+        Map<String, TaurusWhitelistDetails> whitelistDetailsById = new HashMap<>(whitelistDetailsCache.getAll(whitelistIds));
+        List<String> missing = new ArrayList<>();
+        for (String whitelistId : whitelistIds) {
+            if (!whitelistDetailsById.containsKey(whitelistId)) {
+                missing.add(whitelistId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return whitelistDetailsById;
+        }
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(authToken);
+        log.info("Getting whitelist approval details for {} whitelist IDs", missing.size());
+        
+        try {
+            ResponseEntity<TaurusWhitelistsResponse> response = readHedger.call("whitelist-details-batch", () -> exchangeAuthenticated(
+                    idsUri(whitelistEndpoint, missing.toArray()), HttpMethod.GET, null, null, TaurusWhitelistsResponse.class));
+            
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                for (TaurusWhitelistDetails whitelistDetails : response.getBody().getWhitelists()) {
+                    whitelistDetailsCache.put(whitelistDetails.getId(), whitelistDetails);
+                    whitelistDetailsById.put(whitelistDetails.getId(), whitelistDetails);
+                }
+                
+                log.info("Successfully retrieved whitelist approval details for {} of {} whitelist IDs",
+                        whitelistDetailsById.size(), whitelistIds.size());
+                return whitelistDetailsById;
+            } else {
+                log.error("Failed to get whitelist approval details: {}", response.getStatusCode());
+                throw new RuntimeException("Failed to get whitelist details from Taurus Protect API");
+            }
+        } catch (Exception e) {
+            log.error("Error getting whitelist approval details", e);
+            throw new RuntimeException("Failed to get whitelist details from Taurus Protect API", e);
+        }
+    }
+
+    /**
+     * Approves a whitelist with the signed hash.
+     * Transient failures are retried; the idempotency key lets Taurus Protect drop duplicates.
+     */
+    @Retry(name = TaurusRetryConfig.WHITELIST_APPROVE)
+    public String approveWhitelist(String whitelistId, String signedHash, String idempotencyKey) {
+        log.info("Approving whitelist for whitelist ID: {}", whitelistId);
+        retryBudget.recordAttempt();
         
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("whitelist_id", whitelistId);
         requestBody.put("signature", signedHash);
         
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-        
         try {
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    baseUrl + whitelistApproveEndpoint,
-                    HttpMethod.POST,
-                    requestEntity,
-                    JsonNode.class
-            );
+            ResponseEntity<JsonNode> response = exchangeAuthenticated(URI.create(baseUrl + whitelistApproveEndpoint), HttpMethod.POST, requestBody, idempotencyKey, JsonNode.class);
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 String approvedSignatures = response.getBody().path("signatures").toString();
@@ -292,4 +294,54 @@ public class TaurusProtectClient {
             throw new RuntimeException("Failed to approve whitelist with Taurus Protect API", e);
         }
     }
+
+    /**
+     * Sends a request with the shared auth token. If Taurus Protect rejects the token
+     * it is invalidated and the request is sent once more with a fresh token.
+     */
+    private <T> ResponseEntity<T> exchangeAuthenticated(URI url, HttpMethod method, Object body,
+            String idempotencyKey, Class<T> responseType) {
+        String authToken = tokenProvider.getToken();
+        try {
+            return restTemplate.exchange(url, method, authenticatedEntity(authToken, body, idempotencyKey), responseType);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            log.warn("Taurus Protect rejected the auth token, re-authenticating");
+            tokenProvider.invalidate(authToken);
+            return restTemplate.exchange(url, method,
+                    authenticatedEntity(tokenProvider.getToken(), body, idempotencyKey), responseType);
+        }
+    }
+
+    private HttpEntity<?> authenticatedEntity(String authToken, Object body, String idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        
+        if (idempotencyKey != null) {
+            headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        
+        if (body == null) {
+            return new HttpEntity<>(headers);
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private URI idsUri(String endpoint, Object... ids) {
+        return UriComponentsBuilder.fromHttpUrl(baseUrl + endpoint)
+                .queryParam("ids", ids)
+                .encode()
+                .build()
+                .toUri();
+    }
+
+    /**
+     * Returns the single entry of a lookup by ID, failing if Taurus Protect does not know the ID
+     */
+    static <T> T firstOf(List<T> entries, String kind, String id) {
+        if (entries.isEmpty()) {
+            throw new RuntimeException("Taurus Protect returned no " + kind + " for ID: " + id);
+        }
+        return entries.get(0);
+    }
 }
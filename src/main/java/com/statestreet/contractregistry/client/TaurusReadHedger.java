@@ -0,0 +1,307 @@
+package com.statestreet.contractregistry.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Request hedging for idempotent Taurus Protect reads.
+ * If a read has not answered within the configured latency percentile of recent reads of the
+ * same kind, an identical request is sent and whichever answers first wins; the other is aborted.
+ * Hedges are capped by a token bucket to a fraction of all reads, so a broadly slow
+ * Taurus Protect does not see its read load doubled.
+ * A failure of the hedge is ignored; a failure of the original request is returned unless a hedge answers.
+ */
+@Component
+public class TaurusReadHedger {
+
+    private static final Logger log = LoggerFactory.getLogger(TaurusReadHedger.class);
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, HedgedOperation> operations = new ConcurrentHashMap<>();
+
+    private double tokens;
+
+    @Value("${taurus.api.hedging.enabled:false}")
+    private boolean enabled;
+
+    @Value("${taurus.api.hedging.percentile:0.95}")
+    private double percentile;
+
+    @Value("${taurus.api.hedging.min-delay-ms:20}")
+    private long minDelayMs;
+
+    @Value("${taurus.api.hedging.max-delay-ms:2000}")
+    private long maxDelayMs;
+
+    @Value("${taurus.api.hedging.window-size:500}")
+    private int windowSize;
+
+    @Value("${taurus.api.hedging.min-samples:50}")
+    private int minSamples;
+
+    @Value("${taurus.api.hedging.budget.ratio:0.05}")
+    private double depositPerRead;
+
+    @Value("${taurus.api.hedging.budget.max-tokens:10}")
+    private double maxTokens;
+
+    public TaurusReadHedger(MeterRegistry meterRegistry,
+            @Value("${taurus.api.hedging.threads:16}") int threads) {
+        this.meterRegistry = meterRegistry;
+        // No queue: a hedge that cannot get a thread is simply not sent
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new CustomizableThreadFactory("taurus-hedge-"));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("taurus-hedge-timer-"));
+        Gauge.builder("taurus.hedge.budget.tokens", this, TaurusReadHedger::availableTokens)
+                .description("Hedged reads currently allowed by the Taurus Protect hedging budget")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a blocking read on the calling thread, hedging it from the hedge pool if it is slower than usual.
+     * The losing request is aborted, which closes its connection. If the original request fails while
+     * a hedge is in flight, the hedge's answer is awaited.
+     *
+     * @param operation Name of the read; latencies are tracked per name
+     * @param read The read, safe to run twice concurrently
+     */
+    public <T> T call(String operation, Supplier<T> read) {
+        if (!enabled) {
+            return read.get();
+        }
+        HedgedOperation hedged = operation(operation);
+        hedged.reads.increment();
+        deposit();
+        long start = System.nanoTime();
+
+        HedgedRead<T> hedgedRead = new HedgedRead<>();
+        ScheduledFuture<?> timer = scheduler.schedule(() -> sendHedge(hedgedRead, read, hedged, operation),
+                hedged.delayMs(), TimeUnit.MILLISECONDS);
+        T result;
+        try {
+            result = hedgedRead.primary.run(read);
+        } catch (RuntimeException e) {
+            timer.cancel(false);
+            CompletableFuture<T> hedge = hedgedRead.primaryDone();
+            if (hedge == null) {
+                throw e;
+            }
+            // Either aborted because the hedge answered, or failed with the hedge still in flight
+            try {
+                T hedgeResult = hedge.join();
+                hedged.wins.increment();
+                return hedged.recordLatency(start, hedgeResult);
+            } catch (CompletionException hedgeFailure) {
+                throw e;
+            }
+        }
+
+        timer.cancel(false);
+        CompletableFuture<T> hedge = hedgedRead.primaryDone();
+        if (hedge != null && hedge.isDone() && !hedge.isCompletedExceptionally()) {
+            // The hedge answered first, the original request only returned before its abort took effect
+            hedged.wins.increment();
+            return hedged.recordLatency(start, hedge.join());
+        }
+        hedgedRead.hedge.abort();
+        return hedged.recordLatency(start, result);
+    }
+
+    /**
+     * Hedges a non-blocking read if it is slower than usual. The losing subscription is cancelled.
+     *
+     * @param operation Name of the read; latencies are tracked per name
+     * @param read The read, safe to subscribe to twice concurrently
+     */
+    public <T> Mono<T> hedge(String operation, Mono<T> read) {
+        if (!enabled) {
+            return read;
+        }
+        HedgedOperation hedged = operation(operation);
+        return Mono.defer(() -> {
+            hedged.reads.increment();
+            deposit();
+            long start = System.nanoTime();
+            Mono<T> hedge = Mono.delay(Duration.ofMillis(hedged.delayMs()))
+                    .filter(tick -> tryAcquireHedge())
+                    .flatMap(tick -> {
+                        hedged.hedges.increment();
+                        return read.doOnNext(result -> hedged.wins.increment());
+                    })
+                    .onErrorResume(e -> Mono.never())
+                    .switchIfEmpty(Mono.never());
+            return Mono.firstWithSignal(read, hedge)
+                    .doOnNext(result -> hedged.recordLatency(start, result));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Sends the hedge of a read that has not answered within the delay, if the budget and the pool allow
+     */
+    private <T> void sendHedge(HedgedRead<T> hedgedRead, Supplier<T> read, HedgedOperation hedged, String operation) {
+        if (hedgedRead.isPrimaryDone() || !tryAcquireHedge()) {
+            return;
+        }
+        CompletableFuture<T> hedge = hedgedRead.startHedge();
+        if (hedge == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    hedge.complete(hedgedRead.hedge.run(read));
+                    hedgedRead.primary.abort();
+                } catch (RuntimeException e) {
+                    hedge.completeExceptionally(e);
+                }
+            });
+            hedged.hedges.increment();
+        } catch (RejectedExecutionException e) {
+            log.debug("No thread available to hedge Taurus Protect {}", operation);
+            hedge.completeExceptionally(e);
+        }
+    }
+
+    private HedgedOperation operation(String name) {
+        return operations.computeIfAbsent(name, HedgedOperation::new);
+    }
+
+    private synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + depositPerRead);
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    private synchronized double availableTokens() {
+        return tokens;
+    }
+
+    /**
+     * The original request and the hedge of one blocking read
+     */
+    private static final class HedgedRead<T> {
+
+        private final InFlightRead primary = new InFlightRead();
+        private final InFlightRead hedge = new InFlightRead();
+        private CompletableFuture<T> hedgeResult;
+        private boolean primaryDone;
+
+        /**
+         * Returns the future of the hedge, or null if the original request finished first and no hedge will be sent
+         */
+        synchronized CompletableFuture<T> startHedge() {
+            if (primaryDone) {
+                return null;
+            }
+            hedgeResult = new CompletableFuture<>();
+            return hedgeResult;
+        }
+
+        /**
+         * Marks the original request finished and returns the hedge sent before, if any
+         */
+        synchronized CompletableFuture<T> primaryDone() {
+            primaryDone = true;
+            return hedgeResult;
+        }
+
+        synchronized boolean isPrimaryDone() {
+            return primaryDone;
+        }
+    }
+
+    /**
+     * Latency window and counters of one kind of read
+     */
+    private final class HedgedOperation {
+
+        private final long[] latenciesMs = new long[windowSize];
+        private final Counter reads;
+        private final Counter hedges;
+        private final Counter wins;
+        private int next;
+        private int samples;
+        private volatile long delayMs = maxDelayMs;
+
+        private HedgedOperation(String name) {
+            this.reads = Counter.builder("taurus.hedge.reads")
+                    .description("Taurus Protect reads that could be hedged")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            this.hedges = Counter.builder("taurus.hedge.sent")
+                    .description("Hedge requests sent to Taurus Protect")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            this.wins = Counter.builder("taurus.hedge.wins")
+                    .description("Hedge requests that answered before the original request")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            Gauge.builder("taurus.hedge.delay", this, operation -> operation.delayMs)
+                    .description("Current delay before a Taurus Protect read is hedged, in milliseconds")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+        }
+
+        long delayMs() {
+            return delayMs;
+        }
+
+        /**
+         * Records how long the caller waited; with a hedge that is a lower bound of the original request. The delay is recomputed every few samples
+         * rather than on every read, which would sort the window each time.
+         */
+        <T> T recordLatency(long startNanos, T result) {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            synchronized (this) {
+                latenciesMs[next] = elapsedMs;
+                next = (next + 1) % latenciesMs.length;
+                samples = Math.min(samples + 1, latenciesMs.length);
+                if (samples >= minSamples && next % 10 == 0) {
+                    long[] sorted = Arrays.copyOf(latenciesMs, samples);
+                    Arrays.sort(sorted);
+                    long percentileMs = sorted[(int) Math.max(0, Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1))];
+                    delayMs = Math.max(minDelayMs, Math.min(maxDelayMs, percentileMs));
+                }
+            }
+            return result;
+        }
+    }
+}
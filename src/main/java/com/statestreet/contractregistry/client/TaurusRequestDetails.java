@@ -0,0 +1,70 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * A request entry of the Taurus Protect requests endpoint.
+ * The metadata is kept as raw JSON text and passed to the hash service unchanged.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TaurusRequestDetails {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("hash")
+    private String hash;
+
+    @JsonProperty("metadata")
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String metadata;
+
+    @JsonProperty("whitelist_id")
+    private String whitelistId;
+
+    @JsonProperty("contract_address")
+    private String contractAddress;
+
+    @JsonProperty("transaction_hash")
+    private String transactionHash;
+
+    /**
+     * Whether Taurus Protect reports the contract as deployed on chain
+     */
+    public boolean isDeployed() {
+        return "deployed".equalsIgnoreCase(status);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getMetadata() {
+        return metadata;
+    }
+
+    public String getWhitelistId() {
+        return whitelistId;
+    }
+
+    public String getContractAddress() {
+        return contractAddress;
+    }
+
+    public String getTransactionHash() {
+        return transactionHash;
+    }
+}
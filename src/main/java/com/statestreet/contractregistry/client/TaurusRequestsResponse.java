@@ -0,0 +1,21 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Body of the Taurus Protect requests endpoint
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TaurusRequestsResponse {
+
+    @JsonProperty("requests")
+    private List<TaurusRequestDetails> requests = Collections.emptyList();
+
+    public List<TaurusRequestDetails> getRequests() {
+        return requests != null ? requests : Collections.emptyList();
+    }
+}
@@ -0,0 +1,35 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * A whitelist entry of the Taurus Protect addresses-for-approvals endpoint.
+ * The metadata is kept as raw JSON text and passed to the hash service unchanged.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TaurusWhitelistDetails {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("hash")
+    private String hash;
+
+    @JsonProperty("metadata")
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String metadata;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getMetadata() {
+        return metadata;
+    }
+}
@@ -0,0 +1,49 @@
+package com.statestreet.contractregistry.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of whitelist approval details keyed by whitelist ID, shared by the blocking
+ * and reactive Taurus Protect clients. The hash and metadata of a whitelist do not change once
+ * issued, so retries of the whitelist step do not fetch them again.
+ */
+@Component
+public class TaurusWhitelistDetailsCache {
+
+    private final Cache<String, TaurusWhitelistDetails> details;
+
+    public TaurusWhitelistDetailsCache(@Value("${taurus.api.whitelist-cache.max-size:10000}") long maxSize,
+            @Value("${taurus.api.whitelist-cache.ttl-minutes:60}") long ttlMinutes,
+            MeterRegistry meterRegistry) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "taurus.whitelist.details");
+    }
+
+    /**
+     * Returns the cached details of a whitelist, or null if they have not been fetched
+     */
+    public TaurusWhitelistDetails get(String whitelistId) {
+        return details.getIfPresent(whitelistId);
+    }
+
+    public Map<String, TaurusWhitelistDetails> getAll(Collection<String> whitelistIds) {
+        return details.getAllPresent(whitelistIds);
+    }
+
+    public void put(String whitelistId, TaurusWhitelistDetails whitelistDetails) {
+        details.put(whitelistId, whitelistDetails);
+    }
+}
@@ -0,0 +1,21 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Body of the Taurus Protect addresses-for-approvals endpoint
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TaurusWhitelistsResponse {
+
+    @JsonProperty("whitelists")
+    private List<TaurusWhitelistDetails> whitelists = Collections.emptyList();
+
+    public List<TaurusWhitelistDetails> getWhitelists() {
+        return whitelists != null ? whitelists : Collections.emptyList();
+    }
+}
@@ -1,6 +1,8 @@
 package com.statestreet.contractregistry.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,6 +14,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Component
+@Bulkhead(name = "token-registry")
+@CircuitBreaker(name = "token-registry")
 public class TokenRegistryClient {
 
     private static final Logger log = LoggerFactory.getLogger(TokenRegistryClient.class);
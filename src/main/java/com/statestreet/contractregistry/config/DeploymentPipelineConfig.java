@@ -0,0 +1,34 @@
+package com.statestreet.contractregistry.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration of the worker pool that drives asynchronous deployment steps
+ */
+@Configuration
+public class DeploymentPipelineConfig {
+
+    @Value("${deployment.pipeline.workers.core-size:8}")
+    private int coreSize;
+
+    @Value("${deployment.pipeline.workers.max-size:32}")
+    private int maxSize;
+
+    @Value("${deployment.pipeline.workers.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor deploymentPipelineExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("deployment-step-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,44 @@
+package com.statestreet.contractregistry.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transport chosen per downstream service with http-client.transport.&lt;service&gt;.
+ * APACHE is the pooled HTTP/1.1 client (reactor-netty for the reactive clients);
+ * JDK is java.net.http.HttpClient, which multiplexes concurrent calls over a few HTTP/2 connections.
+ */
+@Component
+public class DownstreamTransports {
+
+    public enum Transport { APACHE, JDK }
+
+    private final List<String> jdkBaseUrls = new ArrayList<>();
+
+    public DownstreamTransports(@Value("${taurus.api.base-url}") String taurusBaseUrl,
+            @Value("${http-client.transport.taurus:apache}") Transport taurusTransport,
+            @Value("${hash-service.api.base-url}") String hashServiceBaseUrl,
+            @Value("${http-client.transport.hash-service:apache}") Transport hashServiceTransport,
+            @Value("${token-registry.api.base-url}") String tokenRegistryBaseUrl,
+            @Value("${http-client.transport.token-registry:apache}") Transport tokenRegistryTransport) {
+        addIfJdk(taurusBaseUrl, taurusTransport);
+        addIfJdk(hashServiceBaseUrl, hashServiceTransport);
+        addIfJdk(tokenRegistryBaseUrl, tokenRegistryTransport);
+    }
+
+    /**
+     * Base URLs of the downstream services that use the JDK transport
+     */
+    public List<String> jdkBaseUrls() {
+        return jdkBaseUrls;
+    }
+
+    private void addIfJdk(String baseUrl, Transport transport) {
+        if (transport == Transport.JDK) {
+            jdkBaseUrls.add(baseUrl);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.statestreet.contractregistry.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips request bodies to Taurus Protect of at least min-size-bytes, which in practice means
+ * deployment requests carrying the contract bytecode. Applied to the RestTemplate as an interceptor
+ * and to the WebClient as a filter. If Taurus Protect answers 415 the request is sent again
+ * uncompressed and compression stays off until restart.
+ */
+@Component
+public class GzipRequestCompression implements ClientHttpRequestInterceptor, ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(GzipRequestCompression.class);
+
+    private static final String GZIP = "gzip";
+
+    private final String taurusBaseUrl;
+    private final boolean enabled;
+    private final int minSizeBytes;
+    private volatile boolean supported = true;
+
+    public GzipRequestCompression(@Value("${taurus.api.base-url}") String taurusBaseUrl,
+            @Value("${taurus.api.gzip-requests.enabled:false}") boolean enabled,
+            @Value("${taurus.api.gzip-requests.min-size-bytes:8192}") int minSizeBytes) {
+        this.taurusBaseUrl = taurusBaseUrl;
+        this.enabled = enabled;
+        this.minSizeBytes = minSizeBytes;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!appliesTo(request.getURI(), request.getHeaders()) || body.length < minSizeBytes) {
+            return execution.execute(request, body);
+        }
+
+        byte[] compressed = gzip(body);
+        request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        request.getHeaders().setContentLength(compressed.length);
+        ClientHttpResponse response = execution.execute(request, compressed);
+        if (response.getRawStatusCode() != HttpStatus.UNSUPPORTED_MEDIA_TYPE.value()) {
+            return response;
+        }
+
+        response.close();
+        disable();
+        request.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+        request.getHeaders().setContentLength(body.length);
+        return execution.execute(request, body);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!appliesTo(request.url(), request.headers())) {
+            return next.exchange(request);
+        }
+
+        AtomicBoolean compressed = new AtomicBoolean();
+        ClientRequest compressing = ClientRequest.from(request)
+                .body((message, context) -> request.body().insert(new ClientHttpRequestDecorator(message) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        return DataBufferUtils.join(body).flatMap(buffer -> {
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            DataBufferUtils.release(buffer);
+
+                            if (bytes.length >= minSizeBytes) {
+                                bytes = gzip(bytes);
+                                getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                                getHeaders().setContentLength(bytes.length);
+                                compressed.set(true);
+                            }
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        });
+                    }
+                }, context))
+                .build();
+
+        return next.exchange(compressing).flatMap(response -> {
+            if (!compressed.get() || response.rawStatusCode() != HttpStatus.UNSUPPORTED_MEDIA_TYPE.value()) {
+                return Mono.just(response);
+            }
+            disable();
+            return response.releaseBody().then(next.exchange(request));
+        });
+    }
+
+    private boolean appliesTo(URI uri, HttpHeaders headers) {
+        return enabled && supported
+                && !headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                && uri.toString().startsWith(taurusBaseUrl);
+    }
+
+    private void disable() {
+        if (supported) {
+            log.warn("Taurus Protect does not accept gzip request bodies, sending them uncompressed");
+            supported = false;
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip request body", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,220 @@
+package com.statestreet.contractregistry.config;
+
+import com.statestreet.contractregistry.exception.RequestBodyDecompressionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Inflates request bodies sent with Content-Encoding: gzip, so controllers read plain JSON.
+ * The inflated size is capped, so a small compressed body cannot expand without bound.
+ * The body is inflated as it is read, so a corrupt or oversize body fails with a
+ * {@link RequestBodyDecompressionException}: mapped by GlobalExceptionHandler when a controller reads
+ * it, and answered here with 400 or 413 when it escapes the dispatcher.
+ */
+public class GzipRequestDecompressionFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(GzipRequestDecompressionFilter.class);
+
+    private final long maxSizeBytes;
+
+    public GzipRequestDecompressionFilter(long maxSizeBytes) {
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(new GzipRequest(request, maxSizeBytes), response);
+        } catch (IOException | ServletException e) {
+            RequestBodyDecompressionException failure = decompressionFailure(e);
+            if (failure == null || response.isCommitted()) {
+                throw e;
+            }
+            log.warn("Rejected gzip request body of {} {}: {}", request.getMethod(), request.getRequestURI(), failure.getMessage());
+            response.sendError(failure.getStatus().value(), failure.getMessage());
+        }
+    }
+
+    private static RequestBodyDecompressionException decompressionFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof RequestBodyDecompressionException) {
+                return (RequestBodyDecompressionException) cause;
+            }
+        }
+        return null;
+    }
+
+    private static final class GzipRequest extends HttpServletRequestWrapper {
+
+        private final long maxSizeBytes;
+        private ServletInputStream inputStream;
+
+        private GzipRequest(HttpServletRequest request, long maxSizeBytes) {
+            super(request);
+            this.maxSizeBytes = maxSizeBytes;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new InflatingInputStream(super.getInputStream(), maxSizeBytes);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isHidden(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames());
+            names.removeIf(GzipRequest::isHidden);
+            return Collections.enumeration(names);
+        }
+
+        // The body handed on is neither compressed nor of the received length
+        private static boolean isHidden(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    private static final class InflatingInputStream extends ServletInputStream {
+
+        private final InputStream compressed;
+        private final long maxSizeBytes;
+        private InputStream inflated;
+        private long read;
+        private boolean finished;
+
+        private InflatingInputStream(InputStream compressed, long maxSizeBytes) {
+            this.compressed = compressed;
+            this.maxSizeBytes = maxSizeBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b;
+            try {
+                b = inflated().read();
+            } catch (ZipException | EOFException e) {
+                throw invalidGzip(e);
+            }
+            count(b == -1 ? -1 : 1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n;
+            try {
+                n = inflated().read(buffer, offset, length);
+            } catch (ZipException | EOFException e) {
+                throw invalidGzip(e);
+            }
+            count(n);
+            return n;
+        }
+
+        // Created on the first read, as the constructor already reads the gzip header
+        private InputStream inflated() throws IOException {
+            if (inflated == null) {
+                inflated = new GZIPInputStream(compressed);
+            }
+            return inflated;
+        }
+
+        private static RequestBodyDecompressionException invalidGzip(IOException e) {
+            return new RequestBodyDecompressionException(HttpStatus.BAD_REQUEST,
+                    "Request body is not valid gzip: " + e.getMessage(), e);
+        }
+
+        private void count(int n) throws IOException {
+            if (n == -1) {
+                finished = true;
+                return;
+            }
+            read += n;
+            if (read > maxSizeBytes) {
+                throw new RequestBodyDecompressionException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Decompressed request body exceeds " + maxSizeBytes + " bytes");
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Async reads of gzip request bodies are not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (inflated != null) {
+                inflated.close();
+            } else {
+                compressed.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.statestreet.contractregistry.config;
+
+import com.statestreet.contractregistry.client.InFlightRead;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled Apache HttpClient behind the RestTemplate shared by the downstream clients.
+ * Connections to Taurus Protect, the hash service and the token registry are kept
+ * alive and reused, so most calls skip the TCP and TLS handshake.
+ * Downstreams configured with the JDK transport go through java.net.http.HttpClient instead,
+ * see {@link DownstreamTransports}.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpClientConfig.class);
+
+    @Value("${http-client.pool.max-total:200}")
+    private int maxTotal;
+
+    @Value("${http-client.pool.default-max-per-route:20}")
+    private int defaultMaxPerRoute;
+
+    @Value("${http-client.pool.max-per-route.taurus:50}")
+    private int taurusMaxPerRoute;
+
+    @Value("${http-client.pool.max-per-route.hash-service:20}")
+    private int hashServiceMaxPerRoute;
+
+    @Value("${http-client.pool.max-per-route.token-registry:10}")
+    private int tokenRegistryMaxPerRoute;
+
+    @Value("${http-client.pool.idle-eviction-seconds:30}")
+    private long idleEvictionSeconds;
+
+    @Value("${http-client.pool.time-to-live-seconds:300}")
+    private long timeToLiveSeconds;
+
+    @Value("${http-client.pool.validate-after-inactivity-ms:2000}")
+    private int validateAfterInactivityMs;
+
+    @Value("${http-client.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${http-client.read-timeout-ms:30000}")
+    private int readTimeoutMs;
+
+    @Value("${http-client.connection-request-timeout-ms:5000}")
+    private int connectionRequestTimeoutMs;
+
+    @Value("${http-client.jdk.version:HTTP_2}")
+    private HttpClient.Version jdkVersion;
+
+    @Value("${taurus.api.base-url}")
+    private String taurusBaseUrl;
+
+    @Value("${hash-service.api.base-url}")
+    private String hashServiceBaseUrl;
+
+    @Value("${token-registry.api.base-url}")
+    private String tokenRegistryBaseUrl;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(timeToLiveSeconds, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(defaultMaxPerRoute);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivityMs);
+
+        setMaxPerRoute(connectionManager, taurusBaseUrl, taurusMaxPerRoute);
+        setMaxPerRoute(connectionManager, hashServiceBaseUrl, hashServiceMaxPerRoute);
+        setMaxPerRoute(connectionManager, tokenRegistryBaseUrl, tokenRegistryMaxPerRoute);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(readTimeoutMs)
+                .setConnectionRequestTimeout(connectionRequestTimeoutMs)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEvictionSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Multiplexing client for downstreams on the JDK transport, shared by RestTemplate and WebClient
+     */
+    @Bean
+    public HttpClient jdkHttpClient() {
+        return HttpClient.newBuilder()
+                .version(jdkVersion)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient httpClient, HttpClient jdkHttpClient,
+            DownstreamTransports downstreamTransports, GzipRequestCompression gzipRequestCompression) {
+        ClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient) {
+            @Override
+            protected HttpUriRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+                // abort() closes the connection, so a losing hedged read does not hold it until the read timeout
+                HttpUriRequest request = super.createHttpUriRequest(httpMethod, uri);
+                InFlightRead.onAbort(request::abort);
+                return request;
+            }
+        };
+        if (!downstreamTransports.jdkBaseUrls().isEmpty()) {
+            log.info("Using the JDK HTTP client for {}", downstreamTransports.jdkBaseUrls());
+            requestFactory = new RoutingClientHttpRequestFactory(downstreamTransports.jdkBaseUrls(),
+                    new JdkClientHttpRequestFactory(jdkHttpClient, Duration.ofMillis(readTimeoutMs)), requestFactory);
+        }
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(gzipRequestCompression);
+        return restTemplate;
+    }
+
+    /**
+     * Exports httpcomponents.httpclient.pool.* gauges (leased, pending, available, max) through actuator
+     */
+    @Bean
+    public MeterBinder httpConnectionPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(httpConnectionManager, "downstream");
+    }
+
+    private static void setMaxPerRoute(PoolingHttpClientConnectionManager connectionManager, String baseUrl, int maxPerRoute) {
+        URI uri = URI.create(baseUrl);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        HttpHost host = new HttpHost(uri.getHost(), port, uri.getScheme());
+        connectionManager.setMaxPerRoute(new HttpRoute(host, null, secure), maxPerRoute);
+        log.info("Connection pool limit for {} set to {}", host, maxPerRoute);
+    }
+}
@@ -0,0 +1,29 @@
+package com.statestreet.contractregistry.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Accepts gzip-compressed request bodies on the API, mainly for deployments carrying large bytecode
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.request-decompression.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDecompressionConfig {
+
+    @Value("${server.request-decompression.max-size-bytes:5242880}")
+    private long maxSizeBytes;
+
+    @Value("${server.request-decompression.url-patterns:/api/*}")
+    private String[] urlPatterns;
+
+    @Bean
+    public FilterRegistrationBean<GzipRequestDecompressionFilter> gzipRequestDecompressionFilter() {
+        FilterRegistrationBean<GzipRequestDecompressionFilter> registration =
+                new FilterRegistrationBean<>(new GzipRequestDecompressionFilter(maxSizeBytes));
+        registration.addUrlPatterns(urlPatterns);
+        return registration;
+    }
+}
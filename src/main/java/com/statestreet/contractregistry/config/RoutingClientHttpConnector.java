@@ -0,0 +1,34 @@
+package com.statestreet.contractregistry.config;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * WebClient counterpart of {@link RoutingClientHttpRequestFactory}
+ */
+public class RoutingClientHttpConnector implements ClientHttpConnector {
+
+    private final List<String> routedBaseUrls;
+    private final ClientHttpConnector routed;
+    private final ClientHttpConnector fallback;
+
+    public RoutingClientHttpConnector(List<String> routedBaseUrls, ClientHttpConnector routed, ClientHttpConnector fallback) {
+        this.routedBaseUrls = routedBaseUrls;
+        this.routed = routed;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri,
+            Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        ClientHttpConnector connector = RoutingClientHttpRequestFactory.matches(routedBaseUrls, uri) ? routed : fallback;
+        return connector.connect(method, uri, requestCallback);
+    }
+}
@@ -0,0 +1,41 @@
+package com.statestreet.contractregistry.config;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Sends requests under the given base URLs through one factory and everything else through another
+ */
+public class RoutingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final List<String> routedBaseUrls;
+    private final ClientHttpRequestFactory routed;
+    private final ClientHttpRequestFactory fallback;
+
+    public RoutingClientHttpRequestFactory(List<String> routedBaseUrls, ClientHttpRequestFactory routed,
+            ClientHttpRequestFactory fallback) {
+        this.routedBaseUrls = routedBaseUrls;
+        this.routed = routed;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return (matches(routedBaseUrls, uri) ? routed : fallback).createRequest(uri, httpMethod);
+    }
+
+    static boolean matches(List<String> baseUrls, URI uri) {
+        String url = uri.toString();
+        for (String baseUrl : baseUrls) {
+            if (url.startsWith(baseUrl)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,108 @@
+package com.statestreet.contractregistry.config;
+
+import com.statestreet.contractregistry.client.RetryBudget;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Retry policies for the non-idempotent Taurus Protect calls.
+ * Only transient failures (5xx, 429, I/O errors and timeouts) are retried, with exponential
+ * backoff and jitter, and only while the shared {@link RetryBudget} allows it. The calls carry
+ * an idempotency key, so a retry of a request that did reach Taurus Protect is deduplicated.
+ */
+@Configuration
+public class TaurusRetryConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(TaurusRetryConfig.class);
+
+    public static final String DEPLOY = "taurus-deploy";
+    public static final String APPROVE = "taurus-approve";
+    public static final String WHITELIST_APPROVE = "taurus-whitelist-approve";
+
+    @Value("${taurus.api.retry.initial-interval-ms:500}")
+    private long initialIntervalMs;
+
+    @Value("${taurus.api.retry.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${taurus.api.retry.randomization-factor:0.5}")
+    private double randomizationFactor;
+
+    @Value("${taurus.api.retry.deploy.max-attempts:3}")
+    private int deployMaxAttempts;
+
+    @Value("${taurus.api.retry.approve.max-attempts:3}")
+    private int approveMaxAttempts;
+
+    @Value("${taurus.api.retry.whitelist-approve.max-attempts:3}")
+    private int whitelistApproveMaxAttempts;
+
+    @Bean
+    public Retry taurusDeployRetry(RetryRegistry retryRegistry, RetryBudget retryBudget) {
+        return register(retryRegistry, retryBudget, DEPLOY, deployMaxAttempts);
+    }
+
+    @Bean
+    public Retry taurusApproveRetry(RetryRegistry retryRegistry, RetryBudget retryBudget) {
+        return register(retryRegistry, retryBudget, APPROVE, approveMaxAttempts);
+    }
+
+    @Bean
+    public Retry taurusWhitelistApproveRetry(RetryRegistry retryRegistry, RetryBudget retryBudget) {
+        return register(retryRegistry, retryBudget, WHITELIST_APPROVE, whitelistApproveMaxAttempts);
+    }
+
+    private Retry register(RetryRegistry retryRegistry, RetryBudget retryBudget, String name, int maxAttempts) {
+        RetryConfig config = RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        initialIntervalMs, multiplier, randomizationFactor))
+                .retryOnException(e -> isTransient(e) && retryBudget.tryAcquire())
+                .build();
+
+        // Registered before first use, so @Retry(name = ...) picks up this configuration
+        Retry retry = retryRegistry.retry(name, config);
+        retry.getEventPublisher().onRetry(event -> log.warn("Retrying {} (attempt {}) after {}",
+                name, event.getNumberOfRetryAttempts(), event.getLastThrowable().getMessage()));
+        return retry;
+    }
+
+    /**
+     * Whether a failure is worth retrying: server errors, throttling, I/O errors and timeouts
+     */
+    static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpServerErrorException
+                    || cause instanceof HttpClientErrorException.TooManyRequests
+                    || cause instanceof ResourceAccessException
+                    || cause instanceof WebClientRequestException
+                    || cause instanceof IOException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof WebClientResponseException) {
+                int status = ((WebClientResponseException) cause).getRawStatusCode();
+                return status >= 500 || status == 429;
+            }
+            if (cause instanceof HttpClientErrorException) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+package com.statestreet.contractregistry.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking WebClient used by the reactive downstream clients.
+ * Shares the timeouts and pool sizing of {@link HttpClientConfig} so both transports behave alike.
+ * Spring 5.3 has no WebClient connector on java.net.http.HttpClient, so downstreams on the JDK
+ * transport get their multiplexed HTTP/2 connections from reactor-netty instead.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Value("${http-client.pool.max-total:200}")
+    private int maxConnections;
+
+    @Value("${http-client.pool.idle-eviction-seconds:30}")
+    private long idleEvictionSeconds;
+
+    @Value("${http-client.pool.time-to-live-seconds:300}")
+    private long timeToLiveSeconds;
+
+    @Value("${http-client.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${http-client.read-timeout-ms:30000}")
+    private long readTimeoutMs;
+
+    @Value("${http-client.connection-request-timeout-ms:5000}")
+    private long connectionRequestTimeoutMs;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider reactiveConnectionProvider() {
+        return ConnectionProvider.builder("downstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(connectionRequestTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(idleEvictionSeconds))
+                .maxLifeTime(Duration.ofSeconds(timeToLiveSeconds))
+                .evictInBackground(Duration.ofSeconds(idleEvictionSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient downstreamWebClient(WebClient.Builder webClientBuilder, ConnectionProvider reactiveConnectionProvider,
+            DownstreamTransports downstreamTransports, GzipRequestCompression gzipRequestCompression) {
+        HttpClient httpClient = HttpClient.create(reactiveConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        ClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+        if (!downstreamTransports.jdkBaseUrls().isEmpty()) {
+            // H2 is negotiated through ALPN over TLS and H2C by upgrading cleartext connections; HTTP/1.1 remains the fallback
+            HttpClient multiplexed = httpClient.protocol(HttpProtocol.H2, HttpProtocol.H2C, HttpProtocol.HTTP11);
+            connector = new RoutingClientHttpConnector(downstreamTransports.jdkBaseUrls(),
+                    new ReactorClientHttpConnector(multiplexed), connector);
+        }
+
+        return webClientBuilder
+                .clientConnector(connector)
+                .filter(gzipRequestCompression)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.statestreet.contractregistry.controller;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.dto.UserAccountRequest;
 import com.statestreet.contractregistry.dto.UserAccountResponse;
 import com.statestreet.contractregistry.service.AccountManagementService;
@@ -10,7 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 
 /**
  * REST controller for user account management operations.
@@ -89,12 +89,16 @@ public class AccountManagementController {
     /**
      * Endpoint to get all user accounts
      * 
-     * @return List of all user accounts
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of user accounts
      */
     @GetMapping
-    public ResponseEntity<List<UserAccountResponse>> getAllUserAccounts() {
+    public ResponseEntity<CursorPage<UserAccountResponse>> getAllUserAccounts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get all user accounts");
-        List<UserAccountResponse> accounts = accountService.getAllUserAccounts();
+        CursorPage<UserAccountResponse> accounts = accountService.getAllUserAccounts(cursor, size);
         return ResponseEntity.ok(accounts);
     }
 
@@ -102,12 +106,16 @@ public class AccountManagementController {
      * Endpoint to get all user accounts in a specific department
      * 
      * @param department The department to filter by
-     * @return List of user accounts in the given department
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of user accounts in the given department
      */
     @GetMapping("/department/{department}")
-    public ResponseEntity<List<UserAccountResponse>> getUserAccountsByDepartment(@PathVariable String department) {
+    public ResponseEntity<CursorPage<UserAccountResponse>> getUserAccountsByDepartment(@PathVariable String department,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get user accounts for department: {}", department);
-        List<UserAccountResponse> accounts = accountService.getUserAccountsByDepartment(department);
+        CursorPage<UserAccountResponse> accounts = accountService.getUserAccountsByDepartment(department, cursor, size);
         return ResponseEntity.ok(accounts);
     }
 
@@ -115,12 +123,16 @@ public class AccountManagementController {
      * Endpoint to get all user accounts with a specific role
      * 
      * @param role The role to filter by
-     * @return List of user accounts with the given role
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of user accounts with the given role
      */
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<UserAccountResponse>> getUserAccountsByRole(@PathVariable String role) {
+    public ResponseEntity<CursorPage<UserAccountResponse>> getUserAccountsByRole(@PathVariable String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get user accounts with role: {}", role);
-        List<UserAccountResponse> accounts = accountService.getUserAccountsByRole(role);
+        CursorPage<UserAccountResponse> accounts = accountService.getUserAccountsByRole(role, cursor, size);
         return ResponseEntity.ok(accounts);
     }
 
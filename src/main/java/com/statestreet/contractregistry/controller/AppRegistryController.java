@@ -1,5 +1,6 @@
 package com.statestreet.contractregistry.controller;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.entity.AppRegistry;
 import com.statestreet.contractregistry.service.AppRegistryService;
 import org.slf4j.Logger;
@@ -9,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -105,12 +105,16 @@ public class AppRegistryController {
     /**
      * Endpoint to get all registered applications
      * 
-     * @return List of all applications
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of applications
      */
     @GetMapping
-    public ResponseEntity<List<AppRegistry>> getAllApps() {
+    public ResponseEntity<CursorPage<AppRegistry>> getAllApps(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get all registered applications");
-        List<AppRegistry> apps = appRegistryService.getAllApps();
+        CursorPage<AppRegistry> apps = appRegistryService.getAllApps(cursor, size);
         return ResponseEntity.ok(apps);
     }
 
@@ -118,12 +122,16 @@ public class AppRegistryController {
      * Endpoint to get all applications owned by a specific department
      * 
      * @param department The department that owns the applications
-     * @return List of applications owned by the department
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of applications owned by the department
      */
     @GetMapping("/department/{department}")
-    public ResponseEntity<List<AppRegistry>> getAppsByDepartment(@PathVariable String department) {
+    public ResponseEntity<CursorPage<AppRegistry>> getAppsByDepartment(@PathVariable String department,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get applications for department: {}", department);
-        List<AppRegistry> apps = appRegistryService.getAppsByDepartment(department);
+        CursorPage<AppRegistry> apps = appRegistryService.getAppsByDepartment(department, cursor, size);
         return ResponseEntity.ok(apps);
     }
 
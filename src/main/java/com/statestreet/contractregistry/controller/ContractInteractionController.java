@@ -2,15 +2,18 @@ package com.statestreet.contractregistry.controller;
 
 import com.statestreet.contractregistry.dto.ContractInteractionRequest;
 import com.statestreet.contractregistry.dto.ContractInteractionResponse;
+import com.statestreet.contractregistry.dto.CursorPage;
+import com.statestreet.contractregistry.projection.ContractInteractionSummary;
 import com.statestreet.contractregistry.service.ContractInteractionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
+import java.time.LocalDate;
 
 /**
  * REST controller for smart contract interaction operations.
@@ -76,12 +79,19 @@ public class ContractInteractionController {
      * Endpoint to get all interactions for a specific contract
      * 
      * @param contractAddress The address of the deployed contract
-     * @return List of interactions with the contract
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param since Oldest creation date listed (ISO date), sent again with every page; defaults to the
+     *              first day of the month query-window-months ago
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of interaction summaries with the contract, without parameters, result or error message
      */
     @GetMapping("/contract/{contractAddress}")
-    public ResponseEntity<List<ContractInteractionResponse>> getContractInteractions(@PathVariable String contractAddress) {
+    public ResponseEntity<CursorPage<ContractInteractionSummary>> getContractInteractions(@PathVariable String contractAddress,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get all interactions for contract: {}", contractAddress);
-        List<ContractInteractionResponse> interactions = interactionService.getContractInteractions(contractAddress);
+        CursorPage<ContractInteractionSummary> interactions = interactionService.getContractInteractions(contractAddress, cursor, since, size);
         return ResponseEntity.ok(interactions);
     }
 
@@ -89,12 +99,19 @@ public class ContractInteractionController {
      * Endpoint to get all interactions initiated by a specific user
      * 
      * @param userId The ID of the user
-     * @return List of interactions initiated by the user
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param since Oldest creation date listed (ISO date), sent again with every page; defaults to the
+     *              first day of the month query-window-months ago
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of interaction summaries initiated by the user, without parameters, result or error message
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<ContractInteractionResponse>> getUserInteractions(@PathVariable String userId) {
+    public ResponseEntity<CursorPage<ContractInteractionSummary>> getUserInteractions(@PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get all interactions initiated by user: {}", userId);
-        List<ContractInteractionResponse> interactions = interactionService.getUserInteractions(userId);
+        CursorPage<ContractInteractionSummary> interactions = interactionService.getUserInteractions(userId, cursor, since, size);
         return ResponseEntity.ok(interactions);
     }
 
@@ -102,12 +119,19 @@ public class ContractInteractionController {
      * Endpoint to get all interactions initiated by a specific application
      * 
      * @param appId The ID of the application
-     * @return List of interactions initiated by the application
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param since Oldest creation date listed (ISO date), sent again with every page; defaults to the
+     *              first day of the month query-window-months ago
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of interaction summaries initiated by the application, without parameters, result or error message
      */
     @GetMapping("/app/{appId}")
-    public ResponseEntity<List<ContractInteractionResponse>> getAppInteractions(@PathVariable String appId) {
+    public ResponseEntity<CursorPage<ContractInteractionSummary>> getAppInteractions(@PathVariable String appId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get all interactions initiated by app: {}", appId);
-        List<ContractInteractionResponse> interactions = interactionService.getAppInteractions(appId);
+        CursorPage<ContractInteractionSummary> interactions = interactionService.getAppInteractions(appId, cursor, since, size);
         return ResponseEntity.ok(interactions);
     }
 }
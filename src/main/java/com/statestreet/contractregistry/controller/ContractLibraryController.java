@@ -1,6 +1,8 @@
 package com.statestreet.contractregistry.controller;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.entity.ContractLibrary;
+import com.statestreet.contractregistry.projection.ContractLibrarySummary;
 import com.statestreet.contractregistry.service.ContractLibraryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,7 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 
 /**
  * REST controller for contract library operations.
@@ -90,12 +91,16 @@ public class ContractLibraryController {
     /**
      * Endpoint to get all contracts in the library
      * 
-     * @return List of all contracts
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the first page
+     * @param size Page size, at most {@value CursorPage#MAX_SIZE}
+     * @return Page of contract summaries, without source code, ABI or bytecode
      */
     @GetMapping
-    public ResponseEntity<List<ContractLibrary>> getAllContracts() {
+    public ResponseEntity<CursorPage<ContractLibrarySummary>> getAllContracts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Received request to get all contracts from library");
-        List<ContractLibrary> contracts = contractLibraryService.getAllContracts();
+        CursorPage<ContractLibrarySummary> contracts = contractLibraryService.getAllContracts(cursor, size);
         return ResponseEntity.ok(contracts);
     }
 
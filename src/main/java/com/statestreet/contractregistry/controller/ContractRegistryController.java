@@ -5,6 +5,7 @@ import com.statestreet.contractregistry.dto.DeploymentResponse;
 import com.statestreet.contractregistry.service.DeploymentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +20,10 @@ public class ContractRegistryController {
 
     private final DeploymentService deploymentService;
 
+    // When enabled, pipeline endpoints return 202 Accepted and steps run on the deployment worker pool
+    @Value("${deployment.pipeline.async:false}")
+    private boolean asyncPipeline;
+
     public ContractRegistryController(DeploymentService deploymentService) {
         this.deploymentService = deploymentService;
     }
@@ -29,6 +34,9 @@ public class ContractRegistryController {
     @PostMapping("/deploy")
     public ResponseEntity<DeploymentResponse> deploySmartContract(@Valid @RequestBody DeploymentRequest request) {
         log.info("Received request to deploy smart contract: {}", request.getContractName());
+        if (asyncPipeline) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(deploymentService.submitDeployment(request));
+        }
         DeploymentResponse response = deploymentService.initiateDeployment(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -39,6 +47,9 @@ public class ContractRegistryController {
     @PostMapping("/{requestId}/approve")
     public ResponseEntity<DeploymentResponse> approveDeployment(@PathVariable String requestId) {
         log.info("Received request to approve deployment with ID: {}", requestId);
+        if (asyncPipeline) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(deploymentService.submitApproval(requestId));
+        }
         DeploymentResponse response = deploymentService.approveDeployment(requestId);
         return ResponseEntity.ok(response);
     }
@@ -49,6 +60,9 @@ public class ContractRegistryController {
     @PostMapping("/{requestId}/whitelist")
     public ResponseEntity<DeploymentResponse> whitelistContract(@PathVariable String requestId) {
         log.info("Received request to whitelist contract with ID: {}", requestId);
+        if (asyncPipeline) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(deploymentService.submitWhitelist(requestId));
+        }
         DeploymentResponse response = deploymentService.whitelistContract(requestId);
         return ResponseEntity.ok(response);
     }
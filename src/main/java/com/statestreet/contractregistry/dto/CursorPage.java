@@ -0,0 +1,104 @@
+package com.statestreet.contractregistry.dto;
+
+import com.statestreet.contractregistry.exception.InvalidCursorException;
+import lombok.Data;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * One page of a keyset-paginated list, ordered by database ID.
+ * The next page is requested by passing nextCursor back as the cursor parameter; it is null on the last page.
+ * Cursors are opaque to clients: they encode the ID of the last item of the page, so a page costs an
+ * index range scan however deep into the list it is, and rows inserted meanwhile neither shift nor repeat items.
+ */
+@Data
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    private static final String CURSOR_PREFIX = "v1:";
+
+    private List<T> items;
+    private String nextCursor;
+    private int size;
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = items.size();
+    }
+
+    // Public no-arg constructor (might be needed for frameworks like Jackson)
+    public CursorPage() {}
+
+    /**
+     * Maps a slice read after {@link #afterId(String)} with {@link #pageable(Integer)} into a page
+     *
+     * @param slice The entities of the page, in ascending ID order
+     * @param idOf Reads the database ID of an entity
+     * @param mapper Maps an entity to its response
+     */
+    public static <E, T> CursorPage<T> of(Slice<E> slice, ToLongFunction<E> idOf, Function<E, T> mapper) {
+        List<E> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? encode(idOf.applyAsLong(content.get(content.size() - 1)))
+                : null;
+        return new CursorPage<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * The ID after which the requested page starts; 0 for the first page
+     *
+     * @param cursor The cursor sent by the client, or null
+     * @throws InvalidCursorException If the cursor was not issued by {@link #of}
+     */
+    public static long afterId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("Invalid page cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid page cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * The first page of the requested size, capped at {@link #MAX_SIZE}; the sort is part of each finder
+     */
+    public static Pageable pageable(Integer size) {
+        int requested = size == null || size < 1 ? DEFAULT_SIZE : size;
+        return PageRequest.of(0, Math.min(requested, MAX_SIZE));
+    }
+
+    private static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Explicit Getters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
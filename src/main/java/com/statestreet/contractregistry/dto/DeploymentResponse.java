@@ -15,6 +15,11 @@ public class DeploymentResponse {
     public static class Builder {
         private final DeploymentResponse instance = new DeploymentResponse();
         
+        public Builder trackingId(String trackingId) {
+            instance.trackingId = trackingId;
+            return this;
+        }
+        
         public Builder requestId(String requestId) {
             instance.requestId = requestId;
             return this;
@@ -75,6 +80,7 @@ public class DeploymentResponse {
         }
     }
     
+    private String trackingId;
     private String requestId;
     private String contractName;
     private String status;
@@ -88,6 +94,14 @@ public class DeploymentResponse {
     private LocalDateTime deployedAt;
     
     // Getters and setters
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(String trackingId) {
+        this.trackingId = trackingId;
+    }
+
     public String getRequestId() {
         return requestId;
     }
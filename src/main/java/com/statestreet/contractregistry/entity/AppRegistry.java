@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class AppRegistry {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_registry_seq")
+    @SequenceGenerator(name = "app_registry_seq", sequenceName = "app_registry_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
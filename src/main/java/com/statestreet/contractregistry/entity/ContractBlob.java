@@ -0,0 +1,39 @@
+package com.statestreet.contractregistry.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Content-addressed copy of a large contract artifact such as bytecode or an ABI.
+ * Rows are keyed by the SHA-256 of the content and never change, so every library entry,
+ * registered contract and deployment carrying the same artifact references one row.
+ */
+@Entity
+@Table(name = "contract_blob")
+@Data
+public class ContractBlob {
+
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_IDENTITY = "identity";
+
+    // Hex SHA-256 of the UTF-8 content
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    // How content is stored: gzip, or identity for rows backfilled by the migration
+    @Column(nullable = false, length = 16)
+    private String encoding;
+
+    // Length of the content in characters
+    @Column(name = "original_size", nullable = false)
+    private int originalSize;
+
+    @Column(nullable = false)
+    private byte[] content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class ContractDeployment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_deployment_seq")
+    @SequenceGenerator(name = "contract_deployment_seq", sequenceName = "contract_deployment_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "request_id", nullable = false, unique = true)
@@ -1,23 +1,29 @@
 package com.statestreet.contractregistry.entity;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Entity representing an interaction with a deployed smart contract.
  */
 @Entity
 @Table(name = "contract_interaction")
+@IdClass(ContractInteractionId.class)
 @Data
 public class ContractInteraction {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_interaction_seq")
+    @SequenceGenerator(name = "contract_interaction_seq", sequenceName = "contract_interaction_seq", allocationSize = 50)
     private Long id;
     
-    @Column(name = "interaction_id", nullable = false, unique = true)
+    // Unique across partitions through the contract_interaction_key reservation
+    @Column(name = "interaction_id", nullable = false)
     private String interactionId;
     
     @Column(name = "contract_address", nullable = false)
@@ -26,6 +32,10 @@ public class ContractInteraction {
     @Column(name = "function_name", nullable = false)
     private String functionName;
     
+    // The TEXT columns are only read by the status endpoint; loaded on first access through build-time enhancement
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @Column(name = "function_params", columnDefinition = "TEXT")
     private String functionParams;
     
@@ -41,16 +51,24 @@ public class ContractInteraction {
     @Column(name = "app_id")
     private String appId;
     
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @Column(name = "result", columnDefinition = "TEXT")
     private String result;
     
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
     
     @Column(name = "gas_used")
     private Long gasUsed;
     
-    @Column(name = "created_at")
+    // Partition key of the monthly partitions, and part of the primary key so writes by key prune to one partition
+    @Id
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
@@ -310,8 +328,11 @@ public class ContractInteraction {
     
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // Runs before the ID is generated, so the key is complete when the row is inserted; PostgreSQL keeps microseconds
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
+        updatedAt = createdAt;
     }
     
     @PreUpdate
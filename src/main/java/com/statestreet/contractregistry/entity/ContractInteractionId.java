@@ -0,0 +1,55 @@
+package com.statestreet.contractregistry.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Primary key of {@link ContractInteraction}. created_at is part of the key because it is the
+ * partition key of contract_interaction, so updates and deletes by key only touch one partition.
+ */
+public class ContractInteractionId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private LocalDateTime createdAt;
+
+    public ContractInteractionId() {}
+
+    public ContractInteractionId(Long id, LocalDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContractInteractionId)) {
+            return false;
+        }
+        ContractInteractionId other = (ContractInteractionId) o;
+        return Objects.equals(id, other.id) && Objects.equals(createdAt, other.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "ContractInteractionId(id=" + id + ", createdAt=" + createdAt + ")";
+    }
+}
@@ -3,7 +3,9 @@ package com.statestreet.contractregistry.entity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -20,7 +22,8 @@ import java.time.LocalDateTime;
 public class ContractLibrary {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_library_seq")
+    @SequenceGenerator(name = "contract_library_seq", sequenceName = "contract_library_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -29,15 +32,27 @@ public class ContractLibrary {
     @Column(nullable = false)
     private String version;
     
+    // Only read by the detail endpoints; loaded on first access through build-time enhancement
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @Column(nullable = false, columnDefinition = "TEXT")
     private String sourceCode;
     
-    @Column(nullable = false)
+    // Content of abiHash in the contract blob store, filled in by the library service
+    @Transient
     private String abi;
     
-    @Column(nullable = false)
+    // Content of bytecodeHash in the contract blob store, filled in by the library service
+    @Transient
     private String bytecode;
     
+    @Column(name = "abi_hash", nullable = false, length = 64)
+    private String abiHash;
+    
+    @Column(name = "bytecode_hash", nullable = false, length = 64)
+    private String bytecodeHash;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -93,6 +108,22 @@ public class ContractLibrary {
         this.bytecode = bytecode;
     }
     
+    public String getAbiHash() {
+        return abiHash;
+    }
+    
+    public void setAbiHash(String abiHash) {
+        this.abiHash = abiHash;
+    }
+    
+    public String getBytecodeHash() {
+        return bytecodeHash;
+    }
+    
+    public void setBytecodeHash(String bytecodeHash) {
+        this.bytecodeHash = bytecodeHash;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class ContractRegistry {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_registry_seq")
+    @SequenceGenerator(name = "contract_registry_seq", sequenceName = "contract_registry_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -38,8 +39,9 @@ public class ContractRegistry {
     @Column(nullable = false)
     private String owner;
     
-    @Column(nullable = false)
-    private String abi;
+    // Hash of the ABI in the contract blob store
+    @Column(name = "abi_hash", nullable = false, length = 64)
+    private String abiHash;
     
     @Column(name = "deployment_timestamp", nullable = false)
     private LocalDateTime deploymentTimestamp;
@@ -105,12 +107,12 @@ public class ContractRegistry {
         this.owner = owner;
     }
     
-    public String getAbi() {
-        return abi;
+    public String getAbiHash() {
+        return abiHash;
     }
     
-    public void setAbi(String abi) {
-        this.abi = abi;
+    public void setAbiHash(String abiHash) {
+        this.abiHash = abiHash;
     }
     
     public LocalDateTime getDeploymentTimestamp() {
@@ -203,8 +205,8 @@ public class ContractRegistry {
             return this;
         }
         
-        public ContractRegistryBuilder abi(String abi) {
-            instance.abi = abi;
+        public ContractRegistryBuilder abiHash(String abiHash) {
+            instance.abiHash = abiHash;
             return this;
         }
         
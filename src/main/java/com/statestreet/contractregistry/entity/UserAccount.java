@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class UserAccount {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_account_seq")
+    @SequenceGenerator(name = "user_account_seq", sequenceName = "user_account_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "user_id", nullable = false, unique = true)
@@ -0,0 +1,15 @@
+package com.statestreet.contractregistry.exception;
+
+/**
+ * Thrown when a page cursor sent by a client was not issued by this service
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,31 @@
+package com.statestreet.contractregistry.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+/**
+ * Thrown while reading a gzip request body that is not valid gzip, or inflates beyond the allowed size.
+ * It is an IOException because it surfaces from the request input stream.
+ */
+public class RequestBodyDecompressionException extends IOException {
+
+    private final HttpStatus status;
+
+    public RequestBodyDecompressionException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public RequestBodyDecompressionException(HttpStatus status, String message, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+    /**
+     * BAD_REQUEST for a corrupt body, PAYLOAD_TOO_LARGE for an oversize one
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
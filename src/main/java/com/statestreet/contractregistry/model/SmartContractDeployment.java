@@ -22,6 +22,16 @@ public class SmartContractDeployment {
         
         // Constructor is needed here because the Builder creates an instance
         
+        public Builder trackingId(String trackingId) {
+            instance.trackingId = trackingId;
+            return this;
+        }
+        
+        public Builder idempotencyKey(String idempotencyKey) {
+            instance.idempotencyKey = idempotencyKey;
+            return this;
+        }
+        
         public Builder requestId(String requestId) {
             instance.requestId = requestId;
             return this;
@@ -32,8 +42,8 @@ public class SmartContractDeployment {
             return this;
         }
         
-        public Builder contractBytecode(String contractBytecode) {
-            instance.contractBytecode = contractBytecode;
+        public Builder contractBytecodeHash(String contractBytecodeHash) {
+            instance.contractBytecodeHash = contractBytecodeHash;
             return this;
         }
         
@@ -52,6 +62,11 @@ public class SmartContractDeployment {
             return this;
         }
         
+        public Builder hashMetadata(String hashMetadata) {
+            instance.hashMetadata = hashMetadata;
+            return this;
+        }
+        
         public Builder signedHash(String signedHash) {
             instance.signedHash = signedHash;
             return this;
@@ -77,6 +92,11 @@ public class SmartContractDeployment {
             return this;
         }
         
+        public Builder whitelistMetadata(String whitelistMetadata) {
+            instance.whitelistMetadata = whitelistMetadata;
+            return this;
+        }
+        
         public Builder signedWhitelistHash(String signedWhitelistHash) {
             instance.signedWhitelistHash = signedWhitelistHash;
             return this;
@@ -108,17 +128,27 @@ public class SmartContractDeployment {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "smart_contract_deployments_seq")
+    @SequenceGenerator(name = "smart_contract_deployments_seq", sequenceName = "smart_contract_deployments_seq", allocationSize = 50)
     private Long id;
 
+    @Column(name = "tracking_id", unique = true)
+    private String trackingId;
+
+    // Client-generated, sent with every non-idempotent Taurus Protect call so retries are deduplicated
+    @Column(name = "idempotency_key", unique = true)
+    private String idempotencyKey;
+
     @Column(name = "request_id")
     private String requestId;
 
+    // No longer written, the Taurus Protect token is shared through TaurusAuthTokenProvider
     @Column(name = "auth_token")
     private String authToken;
 
-    @Column(name = "contract_bytecode", length = 50000)
-    private String contractBytecode;
+    // Hash of the bytecode in the contract blob store
+    @Column(name = "contract_bytecode_hash", length = 64)
+    private String contractBytecodeHash;
 
     @Column(name = "contract_name")
     private String contractName;
@@ -129,6 +159,9 @@ public class SmartContractDeployment {
     @Column(name = "hash_value", length = 1000)
     private String hashValue;
 
+    @Column(name = "hash_metadata", length = 10000)
+    private String hashMetadata;
+
     @Column(name = "signed_hash", length = 1000)
     private String signedHash;
 
@@ -144,6 +177,9 @@ public class SmartContractDeployment {
     @Column(name = "whitelist_hash", length = 1000)
     private String whitelistHash;
 
+    @Column(name = "whitelist_metadata", length = 10000)
+    private String whitelistMetadata;
+
     @Column(name = "signed_whitelist_hash", length = 1000)
     private String signedWhitelistHash;
 
@@ -180,6 +216,22 @@ public class SmartContractDeployment {
         this.id = id;
     }
 
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(String trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     public String getRequestId() {
         return requestId;
     }
@@ -196,12 +248,12 @@ public class SmartContractDeployment {
         this.authToken = authToken;
     }
 
-    public String getContractBytecode() {
-        return contractBytecode;
+    public String getContractBytecodeHash() {
+        return contractBytecodeHash;
     }
 
-    public void setContractBytecode(String contractBytecode) {
-        this.contractBytecode = contractBytecode;
+    public void setContractBytecodeHash(String contractBytecodeHash) {
+        this.contractBytecodeHash = contractBytecodeHash;
     }
 
     public String getContractName() {
@@ -228,6 +280,14 @@ public class SmartContractDeployment {
         this.hashValue = hashValue;
     }
 
+    public String getHashMetadata() {
+        return hashMetadata;
+    }
+
+    public void setHashMetadata(String hashMetadata) {
+        this.hashMetadata = hashMetadata;
+    }
+
     public String getSignedHash() {
         return signedHash;
     }
@@ -268,6 +328,14 @@ public class SmartContractDeployment {
         this.whitelistHash = whitelistHash;
     }
 
+    public String getWhitelistMetadata() {
+        return whitelistMetadata;
+    }
+
+    public void setWhitelistMetadata(String whitelistMetadata) {
+        this.whitelistMetadata = whitelistMetadata;
+    }
+
     public String getSignedWhitelistHash() {
         return signedWhitelistHash;
     }
@@ -312,14 +380,14 @@ public class SmartContractDeployment {
     public SmartContractDeployment() {}
     
     // All-args constructor
-    public SmartContractDeployment(Long id, String requestId, String authToken, String contractBytecode, String contractName,
+    public SmartContractDeployment(Long id, String requestId, String authToken, String contractBytecodeHash, String contractName,
                                  String constructorArgs, String hashValue, String signedHash, String transactionHash,
                                  String contractAddress, String whitelistId, String whitelistHash, String signedWhitelistHash,
                                  DeploymentState currentState, String errorMessage, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.requestId = requestId;
         this.authToken = authToken;
-        this.contractBytecode = contractBytecode;
+        this.contractBytecodeHash = contractBytecodeHash;
         this.contractName = contractName;
         this.constructorArgs = constructorArgs;
         this.hashValue = hashValue;
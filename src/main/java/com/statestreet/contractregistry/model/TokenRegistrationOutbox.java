@@ -0,0 +1,181 @@
+package com.statestreet.contractregistry.model;
+
+import javax.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pending token registration of a deployment whose whitelist was approved.
+ * Written in the same transaction as the WHITELIST_APPROVED transition and drained by
+ * the token registration dispatcher, so the registry call is off the request path.
+ */
+@Entity
+@Table(name = "token_registration_outbox",
+        indexes = @Index(name = "idx_token_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class TokenRegistrationOutbox {
+
+    public enum Status {
+        PENDING,
+        SENT,
+        FAILED
+    }
+
+    // Static builder class
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Builder pattern implementation
+    public static class Builder {
+        private final TokenRegistrationOutbox instance = new TokenRegistrationOutbox();
+
+        public Builder deploymentId(Long deploymentId) {
+            instance.deploymentId = deploymentId;
+            return this;
+        }
+
+        public Builder contractAddress(String contractAddress) {
+            instance.contractAddress = contractAddress;
+            return this;
+        }
+
+        public Builder metadata(String metadata) {
+            instance.metadata = metadata;
+            return this;
+        }
+
+        public Builder status(Status status) {
+            instance.status = status;
+            return this;
+        }
+
+        public Builder nextAttemptAt(LocalDateTime nextAttemptAt) {
+            instance.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public TokenRegistrationOutbox build() {
+            return instance;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "token_registration_outbox_seq")
+    @SequenceGenerator(name = "token_registration_outbox_seq", sequenceName = "token_registration_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "deployment_id", nullable = false, unique = true)
+    private Long deploymentId;
+
+    @Column(name = "contract_address")
+    private String contractAddress;
+
+    @Column(name = "metadata", length = 10000)
+    private String metadata;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // Earliest time of the next attempt; pushed forward while a dispatcher holds the entry
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    public void prePersist() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getDeploymentId() {
+        return deploymentId;
+    }
+
+    public void setDeploymentId(Long deploymentId) {
+        this.deploymentId = deploymentId;
+    }
+
+    public String getContractAddress() {
+        return contractAddress;
+    }
+
+    public void setContractAddress(String contractAddress) {
+        this.contractAddress = contractAddress;
+    }
+
+    public String getMetadata() {
+        return metadata;
+    }
+
+    public void setMetadata(String metadata) {
+        this.metadata = metadata;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.statestreet.contractregistry.projection;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection of a contract interaction for list views.
+ * Leaves out the function parameters, result and error message; they are returned by
+ * the interaction status endpoint.
+ */
+public interface ContractInteractionSummary {
+
+    // Database ID, only used for the page cursor
+    @JsonIgnore
+    Long getId();
+
+    String getInteractionId();
+
+    String getContractAddress();
+
+    String getFunctionName();
+
+    String getTransactionHash();
+
+    String getStatus();
+
+    String getInitiatedBy();
+
+    String getAppId();
+
+    Long getGasUsed();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getCompletedAt();
+}
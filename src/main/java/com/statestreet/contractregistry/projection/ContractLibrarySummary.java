@@ -0,0 +1,20 @@
+package com.statestreet.contractregistry.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection of a contract library entry for list views.
+ * Leaves out the source code, ABI and bytecode, which are only returned by the detail endpoints.
+ */
+public interface ContractLibrarySummary {
+
+    Long getId();
+
+    String getName();
+
+    String getVersion();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,27 @@
+package com.statestreet.contractregistry.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection of a registered contract for list views, without its ABI
+ */
+public interface ContractRegistrySummary {
+
+    Long getId();
+
+    String getContractAddress();
+
+    String getContractName();
+
+    String getVersion();
+
+    String getNetwork();
+
+    String getOwner();
+
+    LocalDateTime getDeploymentTimestamp();
+
+    boolean isWhitelisted();
+
+    LocalDateTime getWhitelistTimestamp();
+}
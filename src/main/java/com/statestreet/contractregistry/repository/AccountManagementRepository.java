@@ -1,6 +1,8 @@
 package com.statestreet.contractregistry.repository;
 
 import com.statestreet.contractregistry.entity.UserAccount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -39,20 +41,33 @@ public interface AccountManagementRepository extends JpaRepository<UserAccount,
     Optional<UserAccount> findByEmail(String email);
     
     /**
-     * Find all user accounts in a specific department
+     * Find the next page of user accounts, in ID order
+     * 
+     * @param afterId Only accounts with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of user accounts
+     */
+    Slice<UserAccount> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+    
+    /**
+     * Find the next page of user accounts in a specific department, in ID order
      * 
      * @param department The department to filter by
-     * @return List of user accounts in the given department
+     * @param afterId Only accounts with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of user accounts in the given department
      */
-    List<UserAccount> findByDepartment(String department);
+    Slice<UserAccount> findByDepartmentAndIdGreaterThanOrderByIdAsc(String department, Long afterId, Pageable pageable);
     
     /**
-     * Find all user accounts with a specific role
+     * Find the next page of user accounts with a specific role, in ID order
      * 
      * @param role The role to filter by
-     * @return List of user accounts with the given role
+     * @param afterId Only accounts with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of user accounts with the given role
      */
-    List<UserAccount> findByRole(String role);
+    Slice<UserAccount> findByRoleAndIdGreaterThanOrderByIdAsc(String role, Long afterId, Pageable pageable);
     
     /**
      * Find all active user accounts
@@ -1,6 +1,8 @@
 package com.statestreet.contractregistry.repository;
 
 import com.statestreet.contractregistry.entity.AppRegistry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -31,12 +33,23 @@ public interface AppRegistryRepository extends JpaRepository<AppRegistry, Long>
     Optional<AppRegistry> findByAppName(String appName);
     
     /**
-     * Find all applications owned by a specific department
+     * Find the next page of applications, in ID order
+     * 
+     * @param afterId Only applications with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of applications
+     */
+    Slice<AppRegistry> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+    
+    /**
+     * Find the next page of applications owned by a specific department, in ID order
      * 
      * @param ownerDepartment The department that owns the applications
-     * @return List of applications owned by the department
+     * @param afterId Only applications with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of applications owned by the department
      */
-    List<AppRegistry> findByOwnerDepartment(String ownerDepartment);
+    Slice<AppRegistry> findByOwnerDepartmentAndIdGreaterThanOrderByIdAsc(String ownerDepartment, Long afterId, Pageable pageable);
     
     /**
      * Find all active applications
@@ -0,0 +1,30 @@
+package com.statestreet.contractregistry.repository;
+
+import com.statestreet.contractregistry.entity.ContractBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository interface for content-addressed contract artifacts
+ */
+@Repository
+public interface ContractBlobRepository extends JpaRepository<ContractBlob, String> {
+
+    /**
+     * Stores a blob unless one with the same hash exists. Concurrent writers of the same
+     * content both succeed; the rows would be identical.
+     *
+     * @return 1 if the blob was inserted, 0 if it already existed
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO contract_blob (hash, encoding, original_size, content, created_at) "
+            + "VALUES (:hash, :encoding, :originalSize, :content, now()) ON CONFLICT (hash) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("encoding") String encoding,
+            @Param("originalSize") int originalSize, @Param("content") byte[] content);
+}
@@ -1,9 +1,18 @@
 package com.statestreet.contractregistry.repository;
 
 import com.statestreet.contractregistry.entity.ContractInteraction;
+import com.statestreet.contractregistry.entity.ContractInteractionId;
+import com.statestreet.contractregistry.projection.ContractInteractionSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,10 +21,10 @@ import java.util.Optional;
  * Handles storage and retrieval of smart contract interactions and their results.
  */
 @Repository
-public interface ContractInteractionRepository extends JpaRepository<ContractInteraction, Long> {
+public interface ContractInteractionRepository extends JpaRepository<ContractInteraction, ContractInteractionId> {
     
     /**
-     * Find an interaction by its unique ID
+     * Find an interaction by its unique ID, see {@link #reserveInteractionId}
      * 
      * @param interactionId The unique identifier for the interaction
      * @return Optional of the interaction if found
@@ -23,12 +32,16 @@ public interface ContractInteractionRepository extends JpaRepository<ContractInt
     Optional<ContractInteraction> findByInteractionId(String interactionId);
     
     /**
-     * Find all interactions with a specific contract
+     * Find the next page of interactions with a specific contract, in ID order
      * 
      * @param contractAddress The blockchain address of the contract
-     * @return List of interactions with the given contract
+     * @param createdSince Only interactions created since then are returned, which limits the scan to recent partitions
+     * @param afterId Only interactions with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of interaction summaries with the given contract
      */
-    List<ContractInteraction> findByContractAddress(String contractAddress);
+    Slice<ContractInteractionSummary> findByContractAddressAndCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            String contractAddress, LocalDateTime createdSince, Long afterId, Pageable pageable);
     
     /**
      * Find all interactions that called a specific function
@@ -47,20 +60,28 @@ public interface ContractInteractionRepository extends JpaRepository<ContractInt
     List<ContractInteraction> findByStatus(String status);
     
     /**
-     * Find all interactions initiated by a specific user
+     * Find the next page of interactions initiated by a specific user, in ID order
      * 
      * @param initiatedBy The ID of the user who initiated the interaction
-     * @return List of interactions initiated by the given user
+     * @param createdSince Only interactions created since then are returned, which limits the scan to recent partitions
+     * @param afterId Only interactions with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of interaction summaries initiated by the given user
      */
-    List<ContractInteraction> findByInitiatedBy(String initiatedBy);
+    Slice<ContractInteractionSummary> findByInitiatedByAndCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            String initiatedBy, LocalDateTime createdSince, Long afterId, Pageable pageable);
     
     /**
-     * Find all interactions initiated by a specific application
+     * Find the next page of interactions initiated by a specific application, in ID order
      * 
      * @param appId The ID of the application that initiated the interaction
-     * @return List of interactions initiated by the given application
+     * @param createdSince Only interactions created since then are returned, which limits the scan to recent partitions
+     * @param afterId Only interactions with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of interaction summaries initiated by the given application
      */
-    List<ContractInteraction> findByAppId(String appId);
+    Slice<ContractInteractionSummary> findByAppIdAndCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            String appId, LocalDateTime createdSince, Long afterId, Pageable pageable);
     
     /**
      * Check if an interaction exists with the given interaction ID
@@ -69,4 +90,19 @@ public interface ContractInteractionRepository extends JpaRepository<ContractInt
      * @return True if exists, false otherwise
      */
     boolean existsByInteractionId(String interactionId);
+    
+    /**
+     * Reserves an interaction ID across all partitions; contract_interaction itself can only
+     * enforce uniqueness per created_at
+     * 
+     * @param interactionId The interaction ID to reserve
+     * @param reservedAt When the ID is reserved; the reservation is released with the partition of that month
+     * @return 1 if the ID was reserved, 0 if it is already taken
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO contract_interaction_key (interaction_id, created_at) "
+            + "VALUES (:interactionId, :reservedAt) ON CONFLICT (interaction_id) DO NOTHING",
+            nativeQuery = true)
+    int reserveInteractionId(@Param("interactionId") String interactionId, @Param("reservedAt") LocalDateTime reservedAt);
 }
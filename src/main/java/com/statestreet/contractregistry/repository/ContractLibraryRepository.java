@@ -1,6 +1,9 @@
 package com.statestreet.contractregistry.repository;
 
 import com.statestreet.contractregistry.entity.ContractLibrary;
+import com.statestreet.contractregistry.projection.ContractLibrarySummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +22,15 @@ public interface ContractLibraryRepository extends JpaRepository<ContractLibrary
      */
     ContractLibrary findByName(String name);
     
+    /**
+     * Find the next page of contract library entries, in ID order
+     * 
+     * @param afterId Only entries with a greater ID are returned
+     * @param pageable Page size; the page number must be 0
+     * @return Slice of contract library summaries
+     */
+    Slice<ContractLibrarySummary> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+    
     /**
      * Check if a contract library exists by name
      * 
@@ -1,6 +1,7 @@
 package com.statestreet.contractregistry.repository;
 
 import com.statestreet.contractregistry.entity.ContractRegistry;
+import com.statestreet.contractregistry.projection.ContractRegistrySummary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -26,25 +27,25 @@ public interface ContractRegistryRepository extends JpaRepository<ContractRegist
      * Find all contracts with a specific name
      * 
      * @param contractName The name of the contract
-     * @return List of contracts with the given name
+     * @return Summaries of the contracts with the given name
      */
-    List<ContractRegistry> findByContractName(String contractName);
+    List<ContractRegistrySummary> findByContractName(String contractName);
     
     /**
      * Find all contracts deployed on a specific network
      * 
      * @param network The blockchain network name
-     * @return List of contracts on the given network
+     * @return Summaries of the contracts on the given network
      */
-    List<ContractRegistry> findByNetwork(String network);
+    List<ContractRegistrySummary> findByNetwork(String network);
     
     /**
      * Find all contracts owned by a specific address
      * 
      * @param owner The owner's blockchain address
-     * @return List of contracts owned by the given address
+     * @return Summaries of the contracts owned by the given address
      */
-    List<ContractRegistry> findByOwner(String owner);
+    List<ContractRegistrySummary> findByOwner(String owner);
     
     /**
      * Check if a contract exists at a specific address
@@ -54,10 +55,18 @@ public interface ContractRegistryRepository extends JpaRepository<ContractRegist
      */
     boolean existsByContractAddress(String contractAddress);
     
+    /**
+     * Check if a whitelisted contract exists at a specific address, without loading the contract
+     * 
+     * @param contractAddress The blockchain address to check
+     * @return True if the contract exists and is whitelisted, false otherwise
+     */
+    boolean existsByContractAddressAndWhitelistedTrue(String contractAddress);
+    
     /**
      * Find all whitelisted contracts
      * 
-     * @return List of whitelisted contracts
+     * @return Summaries of the whitelisted contracts
      */
-    List<ContractRegistry> findByWhitelistedTrue();
+    List<ContractRegistrySummary> findByWhitelistedTrue();
 }
@@ -4,8 +4,11 @@ import com.statestreet.contractregistry.model.SmartContractDeployment;
 import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentState;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +17,15 @@ public interface SmartContractDeploymentRepository extends JpaRepository<SmartCo
     
     Optional<SmartContractDeployment> findByRequestId(String requestId);
     
+    Optional<SmartContractDeployment> findByTrackingId(String trackingId);
+    
     List<SmartContractDeployment> findByCurrentState(DeploymentState state);
     
     Optional<SmartContractDeployment> findByContractAddress(String contractAddress);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<SmartContractDeployment> findWithLockById(Long id);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<SmartContractDeployment> findWithLockByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,34 @@
+package com.statestreet.contractregistry.repository;
+
+import com.statestreet.contractregistry.model.TokenRegistrationOutbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TokenRegistrationOutboxRepository extends JpaRepository<TokenRegistrationOutbox, Long> {
+
+    Optional<TokenRegistrationOutbox> findByDeploymentId(Long deploymentId);
+
+    /**
+     * Locks the due entries, skipping rows already locked by another dispatcher.
+     * The lock timeout -2 renders FOR UPDATE SKIP LOCKED with PostgreSQL95Dialect and later;
+     * older dialects silently fall back to a plain FOR UPDATE.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    List<TokenRegistrationOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            TokenRegistrationOutbox.Status status, LocalDateTime now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TokenRegistrationOutbox> findWithLockById(Long id);
+}
@@ -1,8 +1,8 @@
 package com.statestreet.contractregistry.service;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.dto.UserAccountRequest;
 import com.statestreet.contractregistry.dto.UserAccountResponse;
-import java.util.List;
 
 /**
  * Service interface for user account management operations.
@@ -44,27 +44,33 @@ public interface AccountManagementService {
     UserAccountResponse deleteUserAccount(String userId);
 
     /**
-     * Retrieves all user accounts
+     * Retrieves a page of the user accounts
      *
-     * @return List of all user accounts
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of user accounts
      */
-    List<UserAccountResponse> getAllUserAccounts();
+    CursorPage<UserAccountResponse> getAllUserAccounts(String cursor, Integer size);
 
     /**
-     * Retrieves all user accounts in a specific department
+     * Retrieves a page of the user accounts in a specific department
      *
      * @param department The department to filter by
-     * @return List of user accounts in the given department
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of user accounts in the given department
      */
-    List<UserAccountResponse> getUserAccountsByDepartment(String department);
+    CursorPage<UserAccountResponse> getUserAccountsByDepartment(String department, String cursor, Integer size);
 
     /**
-     * Retrieves all user accounts with a specific role
+     * Retrieves a page of the user accounts with a specific role
      *
      * @param role The role to filter by
-     * @return List of user accounts with the given role
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of user accounts with the given role
      */
-    List<UserAccountResponse> getUserAccountsByRole(String role);
+    CursorPage<UserAccountResponse> getUserAccountsByRole(String role, String cursor, Integer size);
 
     /**
      * Assigns a wallet address to a user account
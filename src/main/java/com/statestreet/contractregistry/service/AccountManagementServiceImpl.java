@@ -1,5 +1,6 @@
 package com.statestreet.contractregistry.service;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.dto.UserAccountRequest;
 import com.statestreet.contractregistry.dto.UserAccountResponse;
 import com.statestreet.contractregistry.entity.UserAccount;
@@ -7,12 +8,11 @@ import com.statestreet.contractregistry.exception.ResourceNotFoundException;
 import com.statestreet.contractregistry.repository.AccountManagementRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of the AccountManagementService interface.
@@ -122,33 +122,29 @@ public class AccountManagementServiceImpl implements AccountManagementService {
     }
 
     @Override
-    public List<UserAccountResponse> getAllUserAccounts() {
+    public CursorPage<UserAccountResponse> getAllUserAccounts(String cursor, Integer size) {
         log.info("Getting all user accounts");
         
-        List<UserAccount> accounts = accountRepository.findAll();
-        return accounts.stream()
-                .map(this::createUserAccountResponse)
-                .collect(Collectors.toList());
+        Slice<UserAccount> accounts = accountRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(accounts, UserAccount::getId, this::createUserAccountResponse);
     }
 
     @Override
-    public List<UserAccountResponse> getUserAccountsByDepartment(String department) {
+    public CursorPage<UserAccountResponse> getUserAccountsByDepartment(String department, String cursor, Integer size) {
         log.info("Getting user accounts for department: {}", department);
         
-        List<UserAccount> accounts = accountRepository.findByDepartment(department);
-        return accounts.stream()
-                .map(this::createUserAccountResponse)
-                .collect(Collectors.toList());
+        Slice<UserAccount> accounts = accountRepository.findByDepartmentAndIdGreaterThanOrderByIdAsc(
+                department, CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(accounts, UserAccount::getId, this::createUserAccountResponse);
     }
 
     @Override
-    public List<UserAccountResponse> getUserAccountsByRole(String role) {
+    public CursorPage<UserAccountResponse> getUserAccountsByRole(String role, String cursor, Integer size) {
         log.info("Getting user accounts with role: {}", role);
         
-        List<UserAccount> accounts = accountRepository.findByRole(role);
-        return accounts.stream()
-                .map(this::createUserAccountResponse)
-                .collect(Collectors.toList());
+        Slice<UserAccount> accounts = accountRepository.findByRoleAndIdGreaterThanOrderByIdAsc(
+                role, CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(accounts, UserAccount::getId, this::createUserAccountResponse);
     }
 
     @Override
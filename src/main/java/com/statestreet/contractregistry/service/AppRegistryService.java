@@ -1,8 +1,8 @@
 package com.statestreet.contractregistry.service;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.entity.AppRegistry;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -53,19 +53,23 @@ public interface AppRegistryService {
     Optional<AppRegistry> getAppByName(String appName);
 
     /**
-     * Retrieves all registered applications
+     * Retrieves a page of the registered applications
      *
-     * @return List of all applications
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of applications
      */
-    List<AppRegistry> getAllApps();
+    CursorPage<AppRegistry> getAllApps(String cursor, Integer size);
 
     /**
-     * Retrieves all applications owned by a specific department
+     * Retrieves a page of the applications owned by a specific department
      *
      * @param department The department that owns the applications
-     * @return List of applications owned by the department
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of applications owned by the department
      */
-    List<AppRegistry> getAppsByDepartment(String department);
+    CursorPage<AppRegistry> getAppsByDepartment(String department, String cursor, Integer size);
 
     /**
      * Activates or deactivates an application
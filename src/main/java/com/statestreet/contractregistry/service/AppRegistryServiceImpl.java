@@ -1,16 +1,18 @@
 package com.statestreet.contractregistry.service;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.entity.AppRegistry;
 import com.statestreet.contractregistry.exception.ResourceNotFoundException;
 import com.statestreet.contractregistry.repository.AppRegistryRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Implementation of the AppRegistryService interface.
@@ -113,15 +115,19 @@ public class AppRegistryServiceImpl implements AppRegistryService {
     }
 
     @Override
-    public List<AppRegistry> getAllApps() {
+    public CursorPage<AppRegistry> getAllApps(String cursor, Integer size) {
         log.info("Getting all registered applications");
-        return appRegistryRepository.findAll();
+        Slice<AppRegistry> apps = appRegistryRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(apps, AppRegistry::getId, Function.identity());
     }
 
     @Override
-    public List<AppRegistry> getAppsByDepartment(String department) {
+    public CursorPage<AppRegistry> getAppsByDepartment(String department, String cursor, Integer size) {
         log.info("Getting applications for department: {}", department);
-        return appRegistryRepository.findByOwnerDepartment(department);
+        Slice<AppRegistry> apps = appRegistryRepository.findByOwnerDepartmentAndIdGreaterThanOrderByIdAsc(
+                department, CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(apps, AppRegistry::getId, Function.identity());
     }
 
     @Override
@@ -0,0 +1,146 @@
+package com.statestreet.contractregistry.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.statestreet.contractregistry.entity.ContractBlob;
+import com.statestreet.contractregistry.repository.ContractBlobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed store for contract bytecode and ABIs.
+ * Content is stored once per SHA-256, gzip-compressed, and referenced by its hash from the
+ * library, the registry and deployments. Recently used content is kept decompressed in an
+ * LRU bounded by total size, so repeated deployments of a template neither write nor read it again.
+ */
+@Component
+public class ContractBlobStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractBlobStore.class);
+
+    private final ContractBlobRepository blobRepository;
+    private final Cache<String, String> blobs;
+
+    public ContractBlobStore(ContractBlobRepository blobRepository,
+            @Value("${contract-blobs.cache.max-size-bytes:67108864}") long maxSizeBytes,
+            MeterRegistry meterRegistry) {
+        this.blobRepository = blobRepository;
+        // Bytecode and ABIs are ASCII, which compact strings store at one byte per character
+        this.blobs = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .weigher((String hash, String content) -> content.length())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, blobs, "contract.blobs");
+    }
+
+    /**
+     * Stores content if it is not stored yet
+     *
+     * @param content The bytecode or ABI, may be null
+     * @return Hash referencing the content, or null for null content
+     */
+    public String put(String content) {
+        if (content == null) {
+            return null;
+        }
+        String hash = hash(content);
+        if (blobs.getIfPresent(hash) != null) {
+            return hash;
+        }
+
+        int inserted = blobRepository.insertIfAbsent(hash, ContractBlob.ENCODING_GZIP, content.length(), gzip(content));
+        if (inserted > 0) {
+            log.debug("Stored contract blob {} of {} characters", hash, content.length());
+        }
+        cacheOnCommit(hash, content);
+        return hash;
+    }
+
+    /**
+     * Returns the content referenced by a hash
+     *
+     * @param hash Hash returned by {@link #put(String)}, may be null
+     * @return The content, or null for a null hash
+     * @throws IllegalStateException If no content is stored under the hash
+     */
+    public String get(String hash) {
+        if (hash == null) {
+            return null;
+        }
+        return blobs.get(hash, this::load);
+    }
+
+    private String load(String hash) {
+        ContractBlob blob = blobRepository.findById(hash)
+                .orElseThrow(() -> new IllegalStateException("Contract blob not found: " + hash));
+        return ContractBlob.ENCODING_GZIP.equals(blob.getEncoding())
+                ? gunzip(blob.getContent())
+                : new String(blob.getContent(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Caches content only once its row is committed. A cached hash lets later puts skip the
+     * insert, so caching a blob whose insert is rolled back would leave references to a missing row.
+     */
+    private void cacheOnCommit(String hash, String content) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            blobs.put(hash, content);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                blobs.put(hash, content);
+            }
+        });
+    }
+
+    private static String hash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] gzip(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress contract blob", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String gunzip(byte[] content) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress contract blob", e);
+        }
+    }
+}
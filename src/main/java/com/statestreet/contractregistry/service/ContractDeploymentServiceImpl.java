@@ -139,7 +139,7 @@ public class ContractDeploymentServiceImpl implements ContractDeploymentService
                     .version(contractLibrary.getVersion())
                     .network(deployment.getNetwork())
                     .owner(deployment.getRequesterId())
-                    .abi(contractLibrary.getAbi())
+                    .abiHash(contractLibrary.getAbiHash())
                     .deploymentTimestamp(LocalDateTime.now())
                     .whitelisted(false)
                     .build();
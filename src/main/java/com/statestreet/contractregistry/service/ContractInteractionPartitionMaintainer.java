@@ -0,0 +1,156 @@
+package com.statestreet.contractregistry.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of contract_interaction.
+ * Creates the partitions of the current month and the next premake-months, so inserts never fall
+ * into the default partition, and detaches partitions older than retention-months. A detached
+ * partition is either moved to the archive schema, where it can be exported and dropped
+ * independently, or dropped. The interaction IDs reserved in contract_interaction_key for a retired
+ * month are released with it.
+ * Each change runs in its own transaction under an advisory lock, so only one instance does the work.
+ */
+@Component
+@ConditionalOnProperty(name = "contract-interaction.partitions.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+public class ContractInteractionPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractInteractionPartitionMaintainer.class);
+
+    private static final String TABLE = "contract_interaction";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{6})");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    // Arbitrary key of the advisory lock taken by the maintenance transactions
+    private static final long LOCK_KEY = 0x636f6e7472616374L;
+
+    enum RetentionAction { ARCHIVE, DROP }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionAction retentionAction;
+    private final String archiveSchema;
+
+    @Value("${contract-interaction.partitions.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${contract-interaction.partitions.retention.enabled:true}")
+    private boolean retentionEnabled;
+
+    @Value("${contract-interaction.partitions.retention.months:12}")
+    private int retentionMonths;
+
+    public ContractInteractionPartitionMaintainer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            @Value("${contract-interaction.partitions.retention.action:archive}") String retentionAction,
+            @Value("${contract-interaction.partitions.retention.archive-schema:contract_archive}") String archiveSchema) {
+        if (!IDENTIFIER.matcher(archiveSchema).matches()) {
+            throw new IllegalStateException("Invalid archive schema name: " + archiveSchema);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionAction = RetentionAction.valueOf(retentionAction.toUpperCase());
+        this.archiveSchema = archiveSchema;
+    }
+
+    @Scheduled(fixedDelayString = "${contract-interaction.partitions.maintenance.interval-ms:21600000}",
+            initialDelayString = "${contract-interaction.partitions.maintenance.initial-delay-ms:60000}")
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int ahead = 0; ahead <= premakeMonths; ahead++) {
+            YearMonth month = current.plusMonths(ahead);
+            try {
+                createPartition(month);
+            } catch (Exception e) {
+                // Typically rows of that month already sit in the default partition
+                log.error("Failed to create contract interaction partition for {}", month, e);
+            }
+        }
+
+        if (retentionEnabled) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (String partition : attachedPartitions()) {
+                Matcher matcher = PARTITION_NAME.matcher(partition);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                YearMonth month = YearMonth.parse(matcher.group(1), SUFFIX);
+                if (month.isBefore(oldestKept)) {
+                    try {
+                        retire(partition, month);
+                    } catch (Exception e) {
+                        log.error("Failed to retire contract interaction partition {}", partition, e);
+                    }
+                }
+            }
+        }
+
+        Boolean defaultHasRows = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + ")", Boolean.class);
+        if (Boolean.TRUE.equals(defaultHasRows)) {
+            log.warn("{} holds rows; create their monthly partitions after moving the rows out", DEFAULT_PARTITION);
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String partition = TABLE + "_p" + month.format(SUFFIX);
+        inMaintenanceTransaction(() -> {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            log.debug("Contract interaction partition {} is in place", partition);
+        });
+    }
+
+    private void retire(String partition, YearMonth month) {
+        inMaintenanceTransaction(() -> {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+            int released = jdbcTemplate.update("DELETE FROM " + TABLE + "_key WHERE created_at < ?",
+                    month.plusMonths(1).atDay(1).atStartOfDay());
+            log.debug("Released {} interaction IDs reserved before {}", released, month.plusMonths(1));
+            if (retentionAction == RetentionAction.ARCHIVE) {
+                jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+                log.info("Detached contract interaction partition {} and archived it to schema {}", partition, archiveSchema);
+            } else {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Detached and dropped contract interaction partition {}", partition);
+            }
+        });
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits i "
+                        + "JOIN pg_class child ON child.oid = i.inhrelid "
+                        + "JOIN pg_class parent ON parent.oid = i.inhparent "
+                        + "WHERE parent.relname = ? AND parent.relnamespace = to_regnamespace(current_schema())::oid "
+                        + "ORDER BY child.relname",
+                String.class, TABLE);
+    }
+
+    /**
+     * Runs a partition change in its own transaction, unless another instance holds the maintenance lock
+     */
+    private void inMaintenanceTransaction(Runnable change) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+            if (Boolean.TRUE.equals(locked)) {
+                change.run();
+            } else {
+                log.debug("Contract interaction partition maintenance is running on another instance");
+            }
+        });
+    }
+}
@@ -2,8 +2,10 @@ package com.statestreet.contractregistry.service;
 
 import com.statestreet.contractregistry.dto.ContractInteractionRequest;
 import com.statestreet.contractregistry.dto.ContractInteractionResponse;
+import com.statestreet.contractregistry.dto.CursorPage;
+import com.statestreet.contractregistry.projection.ContractInteractionSummary;
 
-import java.util.List;
+import java.time.LocalDate;
 
 /**
  * Service interface for smart contract interaction operations.
@@ -36,26 +38,35 @@ public interface ContractInteractionService {
     ContractInteractionResponse getInteractionStatus(String interactionId);
 
     /**
-     * Retrieves all interactions for a specific contract
+     * Retrieves a page of the interactions for a specific contract created since the given date
      *
      * @param contractAddress The address of the deployed contract
-     * @return List of interactions with the contract
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param since Oldest creation date listed, or null for the query window
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of interaction summaries with the contract, without parameters, result or error message
      */
-    List<ContractInteractionResponse> getContractInteractions(String contractAddress);
+    CursorPage<ContractInteractionSummary> getContractInteractions(String contractAddress, String cursor, LocalDate since, Integer size);
 
     /**
-     * Retrieves all interactions initiated by a specific user
+     * Retrieves a page of the interactions initiated by a specific user created since the given date
      *
      * @param userId The ID of the user
-     * @return List of interactions initiated by the user
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param since Oldest creation date listed, or null for the query window
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of interaction summaries initiated by the user, without parameters, result or error message
      */
-    List<ContractInteractionResponse> getUserInteractions(String userId);
+    CursorPage<ContractInteractionSummary> getUserInteractions(String userId, String cursor, LocalDate since, Integer size);
 
     /**
-     * Retrieves all interactions initiated by a specific application
+     * Retrieves a page of the interactions initiated by a specific application created since the given date
      *
      * @param appId The ID of the application
-     * @return List of interactions initiated by the application
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param since Oldest creation date listed, or null for the query window
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of interaction summaries initiated by the application, without parameters, result or error message
      */
-    List<ContractInteractionResponse> getAppInteractions(String appId);
+    CursorPage<ContractInteractionSummary> getAppInteractions(String appId, String cursor, LocalDate since, Integer size);
 }
@@ -2,20 +2,24 @@ package com.statestreet.contractregistry.service;
 
 import com.statestreet.contractregistry.dto.ContractInteractionRequest;
 import com.statestreet.contractregistry.dto.ContractInteractionResponse;
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.entity.ContractInteraction;
-import com.statestreet.contractregistry.entity.ContractRegistry;
 import com.statestreet.contractregistry.exception.ResourceNotFoundException;
+import com.statestreet.contractregistry.projection.ContractInteractionSummary;
 import com.statestreet.contractregistry.repository.ContractInteractionRepository;
 import com.statestreet.contractregistry.repository.ContractRegistryRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.YearMonth;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * Implementation of the ContractInteractionService interface.
@@ -25,10 +29,14 @@ import java.util.stream.Collectors;
 public class ContractInteractionServiceImpl implements ContractInteractionService {
 
     private static final Logger log = LoggerFactory.getLogger(ContractInteractionServiceImpl.class);
+    private static final int MAX_ID_ATTEMPTS = 5;
     
     private final ContractInteractionRepository interactionRepository;
     private final ContractRegistryRepository contractRegistryRepository;
     
+    @Value("${contract-interaction.partitions.query-window-months:3}")
+    private int queryWindowMonths;
+    
     /**
      * Constructor for dependency injection
      */
@@ -45,17 +53,17 @@ public class ContractInteractionServiceImpl implements ContractInteractionServic
         log.info("Executing transaction on contract: {} function: {}", 
                 request.getContractAddress(), request.getFunctionName());
         
-        // Verify contract exists and is whitelisted
-        ContractRegistry registry = contractRegistryRepository.findByContractAddress(request.getContractAddress())
-                .orElseThrow(() -> new ResourceNotFoundException("Contract not found: " + request.getContractAddress()));
-        
-        if (!registry.isWhitelisted()) {
+        // Verify contract exists and is whitelisted; the second query only runs when the check fails
+        if (!contractRegistryRepository.existsByContractAddressAndWhitelistedTrue(request.getContractAddress())) {
+            if (!contractRegistryRepository.existsByContractAddress(request.getContractAddress())) {
+                throw new ResourceNotFoundException("Contract not found: " + request.getContractAddress());
+            }
             log.error("Attempted to interact with non-whitelisted contract: {}", request.getContractAddress());
             throw new IllegalStateException("Contract is not whitelisted for interactions: " + request.getContractAddress());
         }
         
         // Create interaction record
-        String interactionId = generateInteractionId();
+        String interactionId = reserveInteractionId();
         ContractInteraction interaction = ContractInteraction.builder()
                 .interactionId(interactionId)
                 .contractAddress(request.getContractAddress())
@@ -105,11 +113,12 @@ public class ContractInteractionServiceImpl implements ContractInteractionServic
                 request.getContractAddress(), request.getFunctionName());
         
         // Verify contract exists
-        contractRegistryRepository.findByContractAddress(request.getContractAddress())
-                .orElseThrow(() -> new ResourceNotFoundException("Contract not found: " + request.getContractAddress()));
+        if (!contractRegistryRepository.existsByContractAddress(request.getContractAddress())) {
+            throw new ResourceNotFoundException("Contract not found: " + request.getContractAddress());
+        }
         
         // Create interaction record for the query
-        String interactionId = generateInteractionId();
+        String interactionId = reserveInteractionId();
         ContractInteraction interaction = ContractInteraction.builder()
                 .interactionId(interactionId)
                 .contractAddress(request.getContractAddress())
@@ -151,6 +160,7 @@ public class ContractInteractionServiceImpl implements ContractInteractionServic
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ContractInteractionResponse getInteractionStatus(String interactionId) {
         log.info("Getting status for interaction: {}", interactionId);
         
@@ -159,37 +169,47 @@ public class ContractInteractionServiceImpl implements ContractInteractionServic
     }
 
     @Override
-    public List<ContractInteractionResponse> getContractInteractions(String contractAddress) {
+    public CursorPage<ContractInteractionSummary> getContractInteractions(String contractAddress, String cursor, LocalDate since, Integer size) {
         log.info("Getting all interactions for contract: {}", contractAddress);
         
         // Verify contract exists
-        contractRegistryRepository.findByContractAddress(contractAddress)
-                .orElseThrow(() -> new ResourceNotFoundException("Contract not found: " + contractAddress));
+        if (!contractRegistryRepository.existsByContractAddress(contractAddress)) {
+            throw new ResourceNotFoundException("Contract not found: " + contractAddress);
+        }
         
-        List<ContractInteraction> interactions = interactionRepository.findByContractAddress(contractAddress);
-        return interactions.stream()
-                .map(this::createInteractionResponse)
-                .collect(Collectors.toList());
+        Slice<ContractInteractionSummary> interactions = interactionRepository.findByContractAddressAndCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                contractAddress, createdSince(since), CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(interactions, ContractInteractionSummary::getId, Function.identity());
     }
 
     @Override
-    public List<ContractInteractionResponse> getUserInteractions(String userId) {
+    public CursorPage<ContractInteractionSummary> getUserInteractions(String userId, String cursor, LocalDate since, Integer size) {
         log.info("Getting all interactions initiated by user: {}", userId);
         
-        List<ContractInteraction> interactions = interactionRepository.findByInitiatedBy(userId);
-        return interactions.stream()
-                .map(this::createInteractionResponse)
-                .collect(Collectors.toList());
+        Slice<ContractInteractionSummary> interactions = interactionRepository.findByInitiatedByAndCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                userId, createdSince(since), CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(interactions, ContractInteractionSummary::getId, Function.identity());
     }
 
     @Override
-    public List<ContractInteractionResponse> getAppInteractions(String appId) {
+    public CursorPage<ContractInteractionSummary> getAppInteractions(String appId, String cursor, LocalDate since, Integer size) {
         log.info("Getting all interactions initiated by app: {}", appId);
         
-        List<ContractInteraction> interactions = interactionRepository.findByAppId(appId);
-        return interactions.stream()
-                .map(this::createInteractionResponse)
-                .collect(Collectors.toList());
+        Slice<ContractInteractionSummary> interactions = interactionRepository.findByAppIdAndCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                appId, createdSince(since), CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(interactions, ContractInteractionSummary::getId, Function.identity());
+    }
+    
+    /**
+     * Start of the window listed by the interaction queries: the requested date or, by default, the first
+     * day of the month query-window-months ago, so the queries only scan the partitions of the current
+     * month and the query-window-months before it
+     */
+    private LocalDateTime createdSince(LocalDate since) {
+        if (since != null) {
+            return since.atStartOfDay();
+        }
+        return YearMonth.now().minusMonths(queryWindowMonths).atDay(1).atStartOfDay();
     }
     
     /**
@@ -221,6 +241,20 @@ public class ContractInteractionServiceImpl implements ContractInteractionServic
                 .build();
     }
     
+    /**
+     * Generates an interaction ID and reserves it, generating another if it is already taken
+     */
+    private String reserveInteractionId() {
+        for (int attempt = 1; attempt <= MAX_ID_ATTEMPTS; attempt++) {
+            String interactionId = generateInteractionId();
+            if (interactionRepository.reserveInteractionId(interactionId, LocalDateTime.now()) == 1) {
+                return interactionId;
+            }
+            log.warn("Interaction ID {} is already taken, generating another", interactionId);
+        }
+        throw new IllegalStateException("Could not generate a free interaction ID after " + MAX_ID_ATTEMPTS + " attempts");
+    }
+
     /**
      * Helper method to generate a unique interaction ID
      */
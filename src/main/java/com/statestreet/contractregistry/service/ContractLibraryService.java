@@ -1,8 +1,9 @@
 package com.statestreet.contractregistry.service;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.entity.ContractLibrary;
+import com.statestreet.contractregistry.projection.ContractLibrarySummary;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -45,11 +46,13 @@ public interface ContractLibraryService {
     Optional<ContractLibrary> getContractByName(String name);
 
     /**
-     * Retrieves all contracts in the library
+     * Retrieves a page of the contracts in the library
      *
-     * @return List of all contracts
+     * @param cursor Cursor of the requested page, or null for the first page
+     * @param size Page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return Page of contract summaries, without source code, ABI or bytecode
      */
-    List<ContractLibrary> getAllContracts();
+    CursorPage<ContractLibrarySummary> getAllContracts(String cursor, Integer size);
 
     /**
      * Deletes a contract from the library
@@ -1,15 +1,18 @@
 package com.statestreet.contractregistry.service;
 
+import com.statestreet.contractregistry.dto.CursorPage;
 import com.statestreet.contractregistry.entity.ContractLibrary;
 import com.statestreet.contractregistry.exception.ResourceNotFoundException;
+import com.statestreet.contractregistry.projection.ContractLibrarySummary;
 import com.statestreet.contractregistry.repository.ContractLibraryRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Implementation of the ContractLibraryService interface.
@@ -21,12 +24,15 @@ public class ContractLibraryServiceImpl implements ContractLibraryService {
     private static final Logger log = LoggerFactory.getLogger(ContractLibraryServiceImpl.class);
     
     private final ContractLibraryRepository contractLibraryRepository;
+    private final ContractBlobStore blobStore;
     
     /**
      * Constructor for dependency injection
      */
-    public ContractLibraryServiceImpl(ContractLibraryRepository contractLibraryRepository) {
+    public ContractLibraryServiceImpl(ContractLibraryRepository contractLibraryRepository,
+            ContractBlobStore blobStore) {
         this.contractLibraryRepository = contractLibraryRepository;
+        this.blobStore = blobStore;
     }
 
     @Override
@@ -46,6 +52,7 @@ public class ContractLibraryServiceImpl implements ContractLibraryService {
             throw new IllegalArgumentException("Contract validation failed");
         }
         
+        storeArtifacts(contractLibrary);
         ContractLibrary savedContract = contractLibraryRepository.save(contractLibrary);
         log.info("Contract added to library with ID: {}", savedContract.getId());
         
@@ -83,6 +90,7 @@ public class ContractLibraryServiceImpl implements ContractLibraryService {
         existingContract.setSourceCode(contractLibrary.getSourceCode());
         existingContract.setAbi(contractLibrary.getAbi());
         existingContract.setBytecode(contractLibrary.getBytecode());
+        storeArtifacts(existingContract);
         
         ContractLibrary updatedContract = contractLibraryRepository.save(existingContract);
         log.info("Contract updated in library: {}", updatedContract.getName());
@@ -91,21 +99,25 @@ public class ContractLibraryServiceImpl implements ContractLibraryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<ContractLibrary> getContractById(Long id) {
         log.info("Getting contract by ID: {}", id);
-        return contractLibraryRepository.findById(id);
+        return contractLibraryRepository.findById(id).map(this::loadArtifacts);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<ContractLibrary> getContractByName(String name) {
         log.info("Getting contract by name: {}", name);
-        return Optional.ofNullable(contractLibraryRepository.findByName(name));
+        return Optional.ofNullable(contractLibraryRepository.findByName(name)).map(this::loadArtifacts);
     }
 
     @Override
-    public List<ContractLibrary> getAllContracts() {
+    public CursorPage<ContractLibrarySummary> getAllContracts(String cursor, Integer size) {
         log.info("Getting all contracts from library");
-        return contractLibraryRepository.findAll();
+        Slice<ContractLibrarySummary> contracts = contractLibraryRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.afterId(cursor), CursorPage.pageable(size));
+        return CursorPage.of(contracts, ContractLibrarySummary::getId, Function.identity());
     }
 
     @Override
@@ -159,4 +171,23 @@ public class ContractLibraryServiceImpl implements ContractLibraryService {
         log.info("Contract validation successful for: {}", contractLibrary.getName());
         return true;
     }
+
+    /**
+     * Moves the ABI and bytecode of a contract to the blob store, referencing them by hash
+     */
+    private void storeArtifacts(ContractLibrary contractLibrary) {
+        contractLibrary.setAbiHash(blobStore.put(contractLibrary.getAbi()));
+        contractLibrary.setBytecodeHash(blobStore.put(contractLibrary.getBytecode()));
+    }
+
+    /**
+     * Fills in the ABI and bytecode of a contract from the blob store and loads its lazy source code,
+     * which the controller could not load once the transaction has ended
+     */
+    private ContractLibrary loadArtifacts(ContractLibrary contractLibrary) {
+        contractLibrary.getSourceCode();
+        contractLibrary.setAbi(blobStore.get(contractLibrary.getAbiHash()));
+        contractLibrary.setBytecode(blobStore.get(contractLibrary.getBytecodeHash()));
+        return contractLibrary;
+    }
 }
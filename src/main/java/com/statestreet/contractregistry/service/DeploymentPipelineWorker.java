@@ -0,0 +1,125 @@
+package com.statestreet.contractregistry.service;
+
+import com.statestreet.contractregistry.model.SmartContractDeployment;
+import com.statestreet.contractregistry.repository.SmartContractDeploymentRepository;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentPhase;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drives deployments through a phase on the bounded deployment worker pool.
+ * Every step is queued as its own task, so deployments advance interleaved and a
+ * worker thread is only occupied for the duration of one remote call.
+ * With deployment.pipeline.reactive enabled, remote calls run on the WebClient event loop
+ * instead and a worker thread only loads the deployment.
+ */
+@Component
+public class DeploymentPipelineWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(DeploymentPipelineWorker.class);
+
+    private final ThreadPoolTaskExecutor deploymentPipelineExecutor;
+    private final SmartContractDeploymentRepository deploymentRepository;
+    private final DeploymentStepExecutor stepExecutor;
+    private final ReactiveDeploymentStepExecutor reactiveStepExecutor;
+    private final DeploymentTransitionRecorder transitionRecorder;
+
+    // Deployments with a step queued or running, so each deployment is driven by one task at a time
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public DeploymentPipelineWorker(ThreadPoolTaskExecutor deploymentPipelineExecutor,
+            SmartContractDeploymentRepository deploymentRepository,
+            DeploymentStepExecutor stepExecutor,
+            ReactiveDeploymentStepExecutor reactiveStepExecutor,
+            DeploymentTransitionRecorder transitionRecorder) {
+        this.deploymentPipelineExecutor = deploymentPipelineExecutor;
+        this.deploymentRepository = deploymentRepository;
+        this.stepExecutor = stepExecutor;
+        this.reactiveStepExecutor = reactiveStepExecutor;
+        this.transitionRecorder = transitionRecorder;
+    }
+
+    @Value("${deployment.pipeline.reactive:false}")
+    private boolean reactiveSteps;
+
+    /**
+     * Queues the next step of a deployment in the given phase
+     *
+     * @return false if the deployment is already being driven
+     * @throws TaskRejectedException if the worker queue is full
+     */
+    public boolean submit(Long deploymentId, DeploymentPhase phase) {
+        if (!inFlight.add(deploymentId)) {
+            log.info("Deployment ID {} is already in progress", deploymentId);
+            return false;
+        }
+        try {
+            deploymentPipelineExecutor.execute(() -> runStep(deploymentId, phase));
+            return true;
+        } catch (TaskRejectedException e) {
+            inFlight.remove(deploymentId);
+            throw e;
+        }
+    }
+
+    private void runStep(Long deploymentId, DeploymentPhase phase) {
+        SmartContractDeployment deployment;
+        try {
+            deployment = deploymentRepository.findById(deploymentId).orElse(null);
+        } catch (Exception e) {
+            log.error("Failed to load deployment ID {}", deploymentId, e);
+            inFlight.remove(deploymentId);
+            return;
+        }
+        if (deployment == null || !phase.includes(deployment.getCurrentState())) {
+            inFlight.remove(deploymentId);
+            return;
+        }
+
+        if (reactiveSteps) {
+            DeploymentState previousState = deployment.getCurrentState();
+            reactiveStepExecutor.executeStep(deployment).subscribe(
+                    next -> afterStep(deploymentId, phase, previousState, next),
+                    e -> afterFailure(deploymentId, e));
+            return;
+        }
+
+        SmartContractDeployment next;
+        try {
+            next = stepExecutor.executeStep(deployment);
+        } catch (Exception e) {
+            afterFailure(deploymentId, e);
+            return;
+        }
+        afterStep(deploymentId, phase, deployment.getCurrentState(), next);
+    }
+
+    private void afterStep(Long deploymentId, DeploymentPhase phase, DeploymentState previousState,
+            SmartContractDeployment next) {
+        boolean requeue = next.getCurrentState() != previousState && phase.includes(next.getCurrentState());
+        if (requeue) {
+            try {
+                deploymentPipelineExecutor.execute(() -> runStep(deploymentId, phase));
+                return;
+            } catch (TaskRejectedException e) {
+                log.error("Worker queue full, deployment ID {} paused until resubmitted", deploymentId);
+                transitionRecorder.recordFailure(deploymentId, "Deployment paused, worker queue is full");
+            }
+        }
+        inFlight.remove(deploymentId);
+    }
+
+    private void afterFailure(Long deploymentId, Throwable e) {
+        // The failure is recorded on the deployment, the client can resubmit to resume
+        log.error("Deployment step failed for deployment ID {}", deploymentId, e);
+        inFlight.remove(deploymentId);
+    }
+}
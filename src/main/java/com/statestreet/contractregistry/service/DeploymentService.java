@@ -22,6 +22,21 @@ public interface DeploymentService {
      */
     DeploymentResponse whitelistContract(String requestId);
     
+    /**
+     * Saves a new deployment and queues its initiation steps on the deployment worker pool
+     */
+    DeploymentResponse submitDeployment(DeploymentRequest request);
+    
+    /**
+     * Queues the approval steps of a deployment on the deployment worker pool
+     */
+    DeploymentResponse submitApproval(String requestId);
+    
+    /**
+     * Queues the whitelist steps of a deployment on the deployment worker pool
+     */
+    DeploymentResponse submitWhitelist(String requestId);
+    
     /**
      * Gets the status of a deployment request
      */
@@ -33,7 +48,7 @@ public interface DeploymentService {
     boolean sendEvent(String requestId, DeploymentState currentState, Object event);
     
     /**
-     * Gets a smart contract deployment entity by request ID
+     * Gets a smart contract deployment entity by Taurus request ID or tracking ID
      */
     SmartContractDeployment getDeploymentByRequestId(String requestId);
 }
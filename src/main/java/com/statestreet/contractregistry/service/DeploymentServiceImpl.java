@@ -1,237 +1,128 @@
 package com.statestreet.contractregistry.service;
 
-import com.statestreet.contractregistry.client.HashSigningServiceClient;
-import com.statestreet.contractregistry.client.TaurusProtectClient;
-import com.statestreet.contractregistry.client.TokenRegistryClient;
 import com.statestreet.contractregistry.dto.DeploymentRequest;
 import com.statestreet.contractregistry.dto.DeploymentResponse;
+import com.statestreet.contractregistry.exception.DeploymentException;
 import com.statestreet.contractregistry.model.SmartContractDeployment;
 import com.statestreet.contractregistry.repository.SmartContractDeploymentRepository;
 import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentEvent;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentPhase;
 import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentState;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentTransitionEngine;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.statemachine.StateMachine;
-import org.springframework.statemachine.config.StateMachineFactory;
-import org.springframework.statemachine.support.DefaultStateMachineContext;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import reactor.core.publisher.Mono;
 
-import java.util.Map;
+import java.util.UUID;
 
+/**
+ * Drives the smart contract deployment pipeline.
+ * Methods that call remote services are deliberately not transactional: every step
+ * persists its own transition through {@link DeploymentStepExecutor}, so no database
+ * connection is held while Taurus Protect, the hash service or the token registry respond.
+ */
 @Service
 public class DeploymentServiceImpl implements DeploymentService {
 
     private static final Logger log = LoggerFactory.getLogger(DeploymentServiceImpl.class);
 
-    private static final String DEPLOYMENT_ID_HEADER = "deploymentId";
-
-    private final StateMachineFactory<DeploymentState, DeploymentEvent> stateMachineFactory;
+    private final DeploymentTransitionEngine transitionEngine;
     private final SmartContractDeploymentRepository deploymentRepository;
-    private final TaurusProtectClient taurusProtectClient;
-    private final HashSigningServiceClient hashServiceClient;
-    private final TokenRegistryClient tokenRegistryClient;
+    private final DeploymentTransitionRecorder transitionRecorder;
+    private final DeploymentStepExecutor stepExecutor;
+    private final DeploymentPipelineWorker pipelineWorker;
+    private final ContractBlobStore blobStore;
 
-    public DeploymentServiceImpl(StateMachineFactory<DeploymentState, DeploymentEvent> stateMachineFactory,
+    public DeploymentServiceImpl(DeploymentTransitionEngine transitionEngine,
             SmartContractDeploymentRepository deploymentRepository,
-            TaurusProtectClient taurusProtectClient,
-            HashSigningServiceClient hashServiceClient,
-            TokenRegistryClient tokenRegistryClient) {
-        this.stateMachineFactory = stateMachineFactory;
+            DeploymentTransitionRecorder transitionRecorder,
+            DeploymentStepExecutor stepExecutor,
+            DeploymentPipelineWorker pipelineWorker,
+            ContractBlobStore blobStore) {
+        this.transitionEngine = transitionEngine;
         this.deploymentRepository = deploymentRepository;
-        this.taurusProtectClient = taurusProtectClient;
-        this.hashServiceClient = hashServiceClient;
-        this.tokenRegistryClient = tokenRegistryClient;
+        this.transitionRecorder = transitionRecorder;
+        this.stepExecutor = stepExecutor;
+        this.pipelineWorker = pipelineWorker;
+        this.blobStore = blobStore;
     }
 
     @Override
-    @Transactional
     public DeploymentResponse initiateDeployment(DeploymentRequest request) {
         log.info("Initiating smart contract deployment for contract: {}", request.getContractName());
 
-        // Create a new deployment entity
-        SmartContractDeployment deployment = SmartContractDeployment.builder()
-                .contractName(request.getContractName())
-                .contractBytecode(request.getContractBytecode())
-                .constructorArgs(request.getConstructorArgs())
-                .currentState(DeploymentState.INITIAL)
-                .build();
+        SmartContractDeployment savedDeployment = createDeployment(request);
 
-        // Save to repository
-        SmartContractDeployment savedDeployment = deploymentRepository.save(deployment);
+        // Authenticate and request deployment, ends in DEPLOY_REQUESTED
+        savedDeployment = runPhase(savedDeployment, DeploymentPhase.INITIATION);
 
-        try {
-            // Start authentication process
-            String authToken = taurusProtectClient.getAuthToken();
-            savedDeployment.setAuthToken(authToken);
-            savedDeployment = deploymentRepository.save(savedDeployment);
-
-            // Update state to AUTHENTICATED
-            sendEvent(savedDeployment.getId().toString(), DeploymentState.INITIAL,
-                    DeploymentEvent.AUTHENTICATION_SUCCESS);
-
-            // Request deployment
-            String requestId = taurusProtectClient.deploySmartContract(
-                    authToken,
-                    request.getContractBytecode(),
-                    request.getContractName(),
-                    request.getConstructorArgs());
-
-            savedDeployment.setRequestId(requestId);
-            savedDeployment = deploymentRepository.save(savedDeployment);
-
-            // Update state to DEPLOY_REQUESTED
-            sendEvent(savedDeployment.getId().toString(), DeploymentState.AUTHENTICATED,
-                    DeploymentEvent.DEPLOYMENT_REQUEST_SUCCESS);
-
-            // Prepare response
-            return buildDeploymentResponse(savedDeployment);
-
-        } catch (Exception e) {
-            log.error("Failed to initiate deployment", e);
-            savedDeployment.setErrorMessage("Failed to initiate deployment: " + e.getMessage());
-            savedDeployment.setCurrentState(DeploymentState.ERROR);
-            deploymentRepository.save(savedDeployment);
-
-            throw new RuntimeException("Failed to initiate smart contract deployment", e);
-        }
+        return buildDeploymentResponse(savedDeployment);
     }
 
     @Override
-    @Transactional
     public DeploymentResponse approveDeployment(String requestId) {
         log.info("Approving deployment for request ID: {}", requestId);
 
         SmartContractDeployment deployment = getDeploymentByRequestId(requestId);
+        requirePhase(deployment, DeploymentPhase.APPROVAL, "approve");
 
-        try {
-            // Update state to APPROVAL_PENDING
-            sendEvent(deployment.getId().toString(), deployment.getCurrentState(), DeploymentEvent.REQUEST_APPROVAL);
-
-            // Fetch request details including hash
-            Map<String, Object> requestDetails = taurusProtectClient.getRequestDetails(
-                    deployment.getAuthToken(),
-                    requestId);
-
-            String hash = (String) requestDetails.get("hash");
-            String metadata = (String) requestDetails.get("metadata");
-
-            deployment.setHashValue(hash);
-            deployment = deploymentRepository.save(deployment);
+        // Fetch hash, sign it, approve and check the deployment status.
+        // Resumes from the last persisted step if a previous attempt failed part-way.
+        deployment = runPhase(deployment, DeploymentPhase.APPROVAL);
 
-            // Update state to HASH_RETRIEVED
-            sendEvent(deployment.getId().toString(), DeploymentState.APPROVAL_PENDING, DeploymentEvent.HASH_FETCHED);
-
-            // Sign the hash
-            String signedHash = hashServiceClient.signHash(hash, metadata);
-            deployment.setSignedHash(signedHash);
-            deployment = deploymentRepository.save(deployment);
+        return buildDeploymentResponse(deployment);
+    }
 
-            // Update state to HASH_SIGNED
-            sendEvent(deployment.getId().toString(), DeploymentState.HASH_RETRIEVED, DeploymentEvent.HASH_SIGNED);
+    @Override
+    public DeploymentResponse whitelistContract(String requestId) {
+        log.info("Whitelisting contract for request ID: {}", requestId);
 
-            // Approve the deployment
-            taurusProtectClient.approveDeployment(
-                    deployment.getAuthToken(),
-                    requestId,
-                    signedHash);
+        SmartContractDeployment deployment = getDeploymentByRequestId(requestId);
+        requirePhase(deployment, DeploymentPhase.WHITELIST, "whitelist");
 
-            // Update state to DEPLOYMENT_APPROVED
-            sendEvent(deployment.getId().toString(), DeploymentState.HASH_SIGNED, DeploymentEvent.DEPLOYMENT_APPROVED);
+        // Fetch whitelist hash, sign it, approve the whitelist and register the token.
+        // Resumes from the last persisted step if a previous attempt failed part-way.
+        deployment = runPhase(deployment, DeploymentPhase.WHITELIST);
 
-            // Check deployment status
-            checkDeploymentStatus(deployment);
+        return buildDeploymentResponse(deployment);
+    }
 
-            return buildDeploymentResponse(deployment);
+    @Override
+    public DeploymentResponse submitDeployment(DeploymentRequest request) {
+        log.info("Submitting smart contract deployment for contract: {}", request.getContractName());
 
-        } catch (Exception e) {
-            log.error("Failed to approve deployment", e);
-            deployment.setErrorMessage("Failed to approve deployment: " + e.getMessage());
-            deployment.setCurrentState(DeploymentState.ERROR);
-            deploymentRepository.save(deployment);
+        SmartContractDeployment deployment = createDeployment(request);
+        submit(deployment, DeploymentPhase.INITIATION);
 
-            throw new RuntimeException("Failed to approve smart contract deployment", e);
-        }
+        return buildDeploymentResponse(deployment);
     }
 
     @Override
-    @Transactional
-    public DeploymentResponse whitelistContract(String requestId) {
-        log.info("Whitelisting contract for request ID: {}", requestId);
+    public DeploymentResponse submitApproval(String requestId) {
+        log.info("Submitting approval for request ID: {}", requestId);
 
         SmartContractDeployment deployment = getDeploymentByRequestId(requestId);
+        requirePhase(deployment, DeploymentPhase.APPROVAL, "approve");
+        submit(deployment, DeploymentPhase.APPROVAL);
 
-        try {
-            // Update state to WHITELIST_REQUESTED
-            sendEvent(deployment.getId().toString(), deployment.getCurrentState(), DeploymentEvent.REQUEST_WHITELIST);
-
-            // Fetch whitelist details
-            Map<String, Object> whitelistDetails = taurusProtectClient.getWhitelistApprovalDetails(
-                    deployment.getAuthToken(),
-                    deployment.getWhitelistId());
-
-            String whitelistHash = (String) whitelistDetails.get("hash");
-            String whitelistMetadata = (String) whitelistDetails.get("metadata");
-
-            deployment.setWhitelistHash(whitelistHash);
-            deployment = deploymentRepository.save(deployment);
-
-            // Update state to WHITELIST_HASH_RETRIEVED
-            sendEvent(deployment.getId().toString(), DeploymentState.WHITELIST_REQUESTED,
-                    DeploymentEvent.WHITELIST_HASH_FETCHED);
-
-            // Sign the whitelist hash
-            String signedWhitelistHash = hashServiceClient.signHash(whitelistHash, whitelistMetadata);
-            deployment.setSignedWhitelistHash(signedWhitelistHash);
-            deployment = deploymentRepository.save(deployment);
-
-            // Update state to WHITELIST_HASH_SIGNED
-            sendEvent(deployment.getId().toString(), DeploymentState.WHITELIST_HASH_RETRIEVED,
-                    DeploymentEvent.WHITELIST_HASH_SIGNED);
-
-            // Approve the whitelist
-            taurusProtectClient.approveWhitelist(
-                    deployment.getAuthToken(),
-                    deployment.getWhitelistId(),
-                    signedWhitelistHash);
-
-            // Update state to WHITELIST_APPROVED
-            sendEvent(deployment.getId().toString(), DeploymentState.WHITELIST_HASH_SIGNED,
-                    DeploymentEvent.WHITELIST_APPROVED);
-
-            // Register token with Token Registry
-            boolean registered = tokenRegistryClient.registerToken(
-                    deployment.getContractAddress(),
-                    "{\"name\":\"" + deployment.getContractName() + "\"}");
-
-            if (registered) {
-                // Update state to TOKEN_REGISTERED
-                sendEvent(deployment.getId().toString(), DeploymentState.WHITELIST_APPROVED,
-                        DeploymentEvent.TOKEN_REGISTERED);
-
-                // Mark as completed
-                sendEvent(deployment.getId().toString(), DeploymentState.TOKEN_REGISTERED,
-                        DeploymentEvent.REGISTER_TOKEN);
-            }
+        return buildDeploymentResponse(deployment);
+    }
 
-            return buildDeploymentResponse(deployment);
+    @Override
+    public DeploymentResponse submitWhitelist(String requestId) {
+        log.info("Submitting whitelist for request ID: {}", requestId);
 
-        } catch (Exception e) {
-            log.error("Failed to whitelist contract", e);
-            deployment.setErrorMessage("Failed to whitelist contract: " + e.getMessage());
-            deployment.setCurrentState(DeploymentState.ERROR);
-            deploymentRepository.save(deployment);
+        SmartContractDeployment deployment = getDeploymentByRequestId(requestId);
+        requirePhase(deployment, DeploymentPhase.WHITELIST, "whitelist");
+        submit(deployment, DeploymentPhase.WHITELIST);
 
-            throw new RuntimeException("Failed to whitelist smart contract", e);
-        }
+        return buildDeploymentResponse(deployment);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public DeploymentResponse getDeploymentStatus(String requestId) {
         log.info("Getting deployment status for request ID: {}", requestId);
 
@@ -241,7 +132,7 @@ public class DeploymentServiceImpl implements DeploymentService {
         // deployed
         if (deployment.getCurrentState() == DeploymentState.DEPLOYMENT_APPROVED) {
             try {
-                checkDeploymentStatus(deployment);
+                deployment = stepExecutor.executeStep(deployment);
             } catch (Exception e) {
                 log.error("Error checking deployment status", e);
             }
@@ -251,58 +142,67 @@ public class DeploymentServiceImpl implements DeploymentService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public SmartContractDeployment getDeploymentByRequestId(String requestId) {
         return deploymentRepository.findByRequestId(requestId)
+                .or(() -> deploymentRepository.findByTrackingId(requestId))
                 .orElseThrow(() -> new RuntimeException("Deployment not found for request ID: " + requestId));
     }
 
     @Override
-    @Transactional
     public boolean sendEvent(String deploymentId, DeploymentState currentState, Object event) {
         log.info("Sending event {} for deployment ID {} in state {}", event, deploymentId, currentState);
 
-        StateMachine<DeploymentState, DeploymentEvent> stateMachine = build(deploymentId, currentState);
+        return transitionEngine.fire(deploymentId, currentState, (DeploymentEvent) event) != null;
+    }
 
-        Message<DeploymentEvent> message = MessageBuilder.withPayload((DeploymentEvent) event)
-                .setHeader(DEPLOYMENT_ID_HEADER, deploymentId)
+    /**
+     * Creates and saves a new deployment entity in the INITIAL state
+     */
+    private SmartContractDeployment createDeployment(DeploymentRequest request) {
+        SmartContractDeployment deployment = SmartContractDeployment.builder()
+                .trackingId(UUID.randomUUID().toString())
+                .idempotencyKey(UUID.randomUUID().toString())
+                .contractName(request.getContractName())
+                .contractBytecodeHash(blobStore.put(request.getContractBytecode()))
+                .constructorArgs(request.getConstructorArgs())
+                .currentState(DeploymentState.INITIAL)
                 .build();
 
-        // Use reactive approach with Spring State Machine 3.2.x
-        // Convert StateMachineEventResult to boolean
-        return stateMachine.sendEvent(Mono.just(message))
-                .blockLast() != null;
+        return transitionRecorder.create(deployment);
     }
 
     /**
-     * Checks the status of a deployment to see if it's complete
+     * Queues a phase on the worker pool, recording the rejection if the pool is saturated
      */
-    private void checkDeploymentStatus(SmartContractDeployment deployment) {
-        Map<String, Object> requestDetails = taurusProtectClient.getRequestDetails(
-                deployment.getAuthToken(),
-                deployment.getRequestId());
-
-        String status = (String) requestDetails.get("status");
-
-        if ("deployed".equalsIgnoreCase(status)) {
-            // Update contract details
-            if (requestDetails.containsKey("contract_address")) {
-                deployment.setContractAddress((String) requestDetails.get("contract_address"));
-            }
-
-            if (requestDetails.containsKey("transaction_hash")) {
-                deployment.setTransactionHash((String) requestDetails.get("transaction_hash"));
-            }
+    private void submit(SmartContractDeployment deployment, DeploymentPhase phase) {
+        try {
+            pipelineWorker.submit(deployment.getId(), phase);
+        } catch (TaskRejectedException e) {
+            log.error("Deployment worker queue is full, rejecting deployment ID {}", deployment.getId());
+            transitionRecorder.recordFailure(deployment.getId(), "Deployment worker queue is full, resubmit later");
+            throw e;
+        }
+    }
 
-            if (requestDetails.containsKey("whitelist_id")) {
-                deployment.setWhitelistId((String) requestDetails.get("whitelist_id"));
+    /**
+     * Executes steps until the deployment leaves the phase or a step makes no progress
+     */
+    private SmartContractDeployment runPhase(SmartContractDeployment deployment, DeploymentPhase phase) {
+        while (phase.includes(deployment.getCurrentState())) {
+            SmartContractDeployment next = stepExecutor.executeStep(deployment);
+            if (next.getCurrentState() == deployment.getCurrentState()) {
+                return next;
             }
+            deployment = next;
+        }
+        return deployment;
+    }
 
-            deploymentRepository.save(deployment);
-
-            // Update state to DEPLOYED
-            sendEvent(deployment.getId().toString(), DeploymentState.DEPLOYMENT_APPROVED,
-                    DeploymentEvent.DEPLOYMENT_COMPLETED);
+    private void requirePhase(SmartContractDeployment deployment, DeploymentPhase phase, String action) {
+        if (!phase.includes(deployment.getCurrentState())) {
+            log.error("Cannot {} deployment in state: {}", action, deployment.getCurrentState());
+            throw new DeploymentException("Cannot " + action + " deployment in state: " + deployment.getCurrentState());
         }
     }
 
@@ -311,6 +211,7 @@ public class DeploymentServiceImpl implements DeploymentService {
      */
     private DeploymentResponse buildDeploymentResponse(SmartContractDeployment deployment) {
         return DeploymentResponse.builder()
+                .trackingId(deployment.getTrackingId())
                 .requestId(deployment.getRequestId())
                 .state(deployment.getCurrentState())
                 .transactionHash(deployment.getTransactionHash())
@@ -319,27 +220,4 @@ public class DeploymentServiceImpl implements DeploymentService {
                 .errorMessage(deployment.getErrorMessage())
                 .build();
     }
-
-    /**
-     * Builds and configures a state machine for a deployment
-     */
-    private StateMachine<DeploymentState, DeploymentEvent> build(String deploymentId, DeploymentState currentState) {
-        StateMachine<DeploymentState, DeploymentEvent> stateMachine = stateMachineFactory.getStateMachine(deploymentId);
-
-        // Use proper reactive methods for Spring State Machine 3.2.x
-        stateMachine.stopReactively().block();
-
-        stateMachine.getStateMachineAccessor()
-                .doWithAllRegions(accessor -> {
-                    // Using the non-deprecated method for StateMachineContext in Spring State
-                    // Machine 3.2.x
-                    accessor.resetStateMachineReactively(
-                            new DefaultStateMachineContext<>(currentState, null, null, null, null))
-                            .block();
-                });
-
-        stateMachine.startReactively().block();
-
-        return stateMachine;
-    }
 }
@@ -0,0 +1,119 @@
+package com.statestreet.contractregistry.service;
+
+import com.statestreet.contractregistry.client.TaurusProtectClient;
+import com.statestreet.contractregistry.client.TaurusRequestDetails;
+import com.statestreet.contractregistry.model.SmartContractDeployment;
+import com.statestreet.contractregistry.repository.SmartContractDeploymentRepository;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentEvent;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Periodically checks all DEPLOYMENT_APPROVED deployments with Taurus Protect.
+ * Request IDs are queried in batches through the multi-ID request endpoint, and
+ * deployments reported as deployed are moved to DEPLOYED in one transaction per batch.
+ * Their whitelist details are then fetched in one call to warm the client cache.
+ */
+@Component
+@ConditionalOnProperty(name = "deployment.status-poller.enabled", havingValue = "true", matchIfMissing = true)
+public class DeploymentStatusPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(DeploymentStatusPoller.class);
+
+    private final SmartContractDeploymentRepository deploymentRepository;
+    private final DeploymentTransitionRecorder transitionRecorder;
+    private final TaurusProtectClient taurusProtectClient;
+
+    @Value("${deployment.status-poller.batch-size:100}")
+    private int batchSize;
+
+    public DeploymentStatusPoller(SmartContractDeploymentRepository deploymentRepository,
+            DeploymentTransitionRecorder transitionRecorder,
+            TaurusProtectClient taurusProtectClient) {
+        this.deploymentRepository = deploymentRepository;
+        this.transitionRecorder = transitionRecorder;
+        this.taurusProtectClient = taurusProtectClient;
+    }
+
+    @Scheduled(fixedDelayString = "${deployment.status-poller.interval-ms:30000}",
+            initialDelayString = "${deployment.status-poller.initial-delay-ms:30000}")
+    public void pollApprovedDeployments() {
+        List<SmartContractDeployment> approved = deploymentRepository.findByCurrentState(DeploymentState.DEPLOYMENT_APPROVED);
+        if (approved.isEmpty()) {
+            return;
+        }
+
+        log.info("Polling Taurus Protect for {} approved deployments", approved.size());
+
+        int deployed = 0;
+        for (int from = 0; from < approved.size(); from += batchSize) {
+            List<SmartContractDeployment> batch = approved.subList(from, Math.min(from + batchSize, approved.size()));
+            try {
+                deployed += pollBatch(batch);
+            } catch (Exception e) {
+                log.error("Error polling deployment status for batch of {} deployments", batch.size(), e);
+            }
+        }
+
+        log.info("Deployment status poll complete, {} of {} deployments are deployed", deployed, approved.size());
+    }
+
+    private int pollBatch(List<SmartContractDeployment> batch) {
+        List<String> requestIds = new ArrayList<>(batch.size());
+        for (SmartContractDeployment deployment : batch) {
+            requestIds.add(deployment.getRequestId());
+        }
+
+        Map<String, TaurusRequestDetails> detailsByRequestId = taurusProtectClient.getRequestDetails(requestIds);
+
+        Map<Long, Consumer<SmartContractDeployment>> changes = new HashMap<>();
+        for (SmartContractDeployment deployment : batch) {
+            TaurusRequestDetails requestDetails = detailsByRequestId.get(deployment.getRequestId());
+            if (requestDetails != null && requestDetails.isDeployed()) {
+                changes.put(deployment.getId(), d -> DeploymentStepExecutor.applyDeploymentDetails(d, requestDetails));
+            }
+        }
+
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        List<SmartContractDeployment> deployed = transitionRecorder.recordTransitions(DeploymentEvent.DEPLOYMENT_COMPLETED, changes);
+        prefetchWhitelistDetails(deployed);
+        return deployed.size();
+    }
+
+    /**
+     * Fetches the whitelist details of newly deployed contracts in one call, so their whitelist
+     * steps are served from the client cache. Failures are left to the whitelist step itself.
+     */
+    private void prefetchWhitelistDetails(List<SmartContractDeployment> deployed) {
+        Set<String> whitelistIds = new HashSet<>();
+        for (SmartContractDeployment deployment : deployed) {
+            if (deployment.getWhitelistId() != null) {
+                whitelistIds.add(deployment.getWhitelistId());
+            }
+        }
+        if (whitelistIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            taurusProtectClient.getWhitelistApprovalDetails(whitelistIds);
+        } catch (Exception e) {
+            log.warn("Could not prefetch whitelist details for {} deployments: {}", whitelistIds.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.statestreet.contractregistry.service;
+
+import com.statestreet.contractregistry.client.HashSigningBatcher;
+import com.statestreet.contractregistry.client.TaurusProtectClient;
+import com.statestreet.contractregistry.client.TaurusRequestDetails;
+import com.statestreet.contractregistry.client.TaurusWhitelistDetails;
+import com.statestreet.contractregistry.exception.DeploymentException;
+import com.statestreet.contractregistry.model.SmartContractDeployment;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentEvent;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentState;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Executes a single step of the deployment pipeline.
+ * The remote call of a step runs outside any transaction; its result is then persisted
+ * together with the state transition by {@link DeploymentTransitionRecorder}.
+ * A failed step leaves the deployment in its last persisted state, so calling the
+ * step again resumes the pipeline where it stopped.
+ */
+@Component
+public class DeploymentStepExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(DeploymentStepExecutor.class);
+
+    private final DeploymentTransitionRecorder transitionRecorder;
+    private final TaurusProtectClient taurusProtectClient;
+    private final HashSigningBatcher hashSigner;
+    private final ContractBlobStore blobStore;
+
+    public DeploymentStepExecutor(DeploymentTransitionRecorder transitionRecorder,
+            TaurusProtectClient taurusProtectClient,
+            HashSigningBatcher hashSigner,
+            ContractBlobStore blobStore) {
+        this.transitionRecorder = transitionRecorder;
+        this.taurusProtectClient = taurusProtectClient;
+        this.hashSigner = hashSigner;
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * Executes the step that follows the current state of the deployment
+     *
+     * @param deployment The deployment to advance
+     * @return The updated deployment, or the same instance if the step made no progress
+     * @throws DeploymentException if the remote call of the step fails
+     */
+    public SmartContractDeployment executeStep(SmartContractDeployment deployment) {
+        Long id = deployment.getId();
+        DeploymentState state = deployment.getCurrentState();
+        log.info("Executing deployment step from state {} for deployment ID {}", state, id);
+
+        switch (state) {
+            case INITIAL:
+                // The token is shared through TaurusAuthTokenProvider and no longer stored per deployment
+                callRemote(deployment, "authenticate with Taurus Protect", taurusProtectClient::getAuthToken);
+                return transitionRecorder.recordTransition(id, DeploymentEvent.AUTHENTICATION_SUCCESS, d -> { });
+            case AUTHENTICATED: {
+                String requestId = callRemote(deployment, "initiate deployment",
+                        () -> taurusProtectClient.deploySmartContract(
+                                blobStore.get(deployment.getContractBytecodeHash()),
+                                deployment.getContractName(),
+                                deployment.getConstructorArgs(),
+                                idempotencyKey(deployment, "deploy")));
+                return transitionRecorder.recordTransition(id, DeploymentEvent.DEPLOYMENT_REQUEST_SUCCESS,
+                        d -> d.setRequestId(requestId));
+            }
+            case DEPLOY_REQUESTED:
+                return transitionRecorder.recordTransition(id, DeploymentEvent.REQUEST_APPROVAL, d -> { });
+            case APPROVAL_PENDING: {
+                TaurusRequestDetails requestDetails = callRemote(deployment, "fetch deployment hash",
+                        () -> taurusProtectClient.getRequestDetails(deployment.getRequestId()));
+                return transitionRecorder.recordTransition(id, DeploymentEvent.HASH_FETCHED, d -> {
+                    d.setHashValue(requestDetails.getHash());
+                    d.setHashMetadata(requestDetails.getMetadata());
+                });
+            }
+            case HASH_RETRIEVED: {
+                String signedHash = callRemote(deployment, "sign deployment hash",
+                        () -> hashSigner.signHash(deployment.getHashValue(), deployment.getHashMetadata()));
+                return transitionRecorder.recordTransition(id, DeploymentEvent.HASH_SIGNED,
+                        d -> d.setSignedHash(signedHash));
+            }
+            case HASH_SIGNED:
+                callRemote(deployment, "approve deployment",
+                        () -> taurusProtectClient.approveDeployment(
+                                deployment.getRequestId(), deployment.getSignedHash(),
+                                idempotencyKey(deployment, "approve")));
+                return transitionRecorder.recordTransition(id, DeploymentEvent.DEPLOYMENT_APPROVED, d -> { });
+            case DEPLOYMENT_APPROVED:
+                return checkDeploymentStatus(deployment);
+            case DEPLOYED:
+                return transitionRecorder.recordTransition(id, DeploymentEvent.REQUEST_WHITELIST, d -> { });
+            case WHITELIST_REQUESTED: {
+                TaurusWhitelistDetails whitelistDetails = callRemote(deployment, "fetch whitelist hash",
+                        () -> taurusProtectClient.getWhitelistApprovalDetails(deployment.getWhitelistId()));
+                return transitionRecorder.recordTransition(id, DeploymentEvent.WHITELIST_HASH_FETCHED, d -> {
+                    d.setWhitelistHash(whitelistDetails.getHash());
+                    d.setWhitelistMetadata(whitelistDetails.getMetadata());
+                });
+            }
+            case WHITELIST_HASH_RETRIEVED: {
+                String signedWhitelistHash = callRemote(deployment, "sign whitelist hash",
+                        () -> hashSigner.signHash(deployment.getWhitelistHash(), deployment.getWhitelistMetadata()));
+                return transitionRecorder.recordTransition(id, DeploymentEvent.WHITELIST_HASH_SIGNED,
+                        d -> d.setSignedWhitelistHash(signedWhitelistHash));
+            }
+            case WHITELIST_HASH_SIGNED:
+                callRemote(deployment, "approve whitelist",
+                        () -> taurusProtectClient.approveWhitelist(
+                                deployment.getWhitelistId(), deployment.getSignedWhitelistHash(),
+                                idempotencyKey(deployment, "whitelist-approve")));
+                return transitionRecorder.recordWhitelistApproved(id);
+            case WHITELIST_APPROVED:
+                // Registered by TokenRegistrationDispatcher; re-queue deployments approved before the outbox existed
+                transitionRecorder.enqueueTokenRegistration(id);
+                return deployment;
+            case TOKEN_REGISTERED:
+                return transitionRecorder.recordTransition(id, DeploymentEvent.REGISTER_TOKEN, d -> { });
+            default:
+                return deployment;
+        }
+    }
+
+    /**
+     * Checks the status of a deployment to see if it's complete
+     */
+    private SmartContractDeployment checkDeploymentStatus(SmartContractDeployment deployment) {
+        TaurusRequestDetails requestDetails = callRemote(deployment, "check deployment status",
+                () -> taurusProtectClient.getRequestDetails(deployment.getRequestId()));
+
+        if (!requestDetails.isDeployed()) {
+            return deployment;
+        }
+
+        // Update contract details and state to DEPLOYED
+        return transitionRecorder.recordTransition(deployment.getId(), DeploymentEvent.DEPLOYMENT_COMPLETED,
+                d -> applyDeploymentDetails(d, requestDetails));
+    }
+
+    /**
+     * Copies the on-chain details of a deployed request onto the deployment
+     */
+    static void applyDeploymentDetails(SmartContractDeployment deployment, TaurusRequestDetails requestDetails) {
+        if (requestDetails.getContractAddress() != null) {
+            deployment.setContractAddress(requestDetails.getContractAddress());
+        }
+
+        if (requestDetails.getTransactionHash() != null) {
+            deployment.setTransactionHash(requestDetails.getTransactionHash());
+        }
+
+        if (requestDetails.getWhitelistId() != null) {
+            deployment.setWhitelistId(requestDetails.getWhitelistId());
+        }
+    }
+
+    /**
+     * Derives the idempotency key of one Taurus Protect operation from the key stored on the deployment
+     */
+    static String idempotencyKey(SmartContractDeployment deployment, String operation) {
+        return deployment.getIdempotencyKey() != null ? deployment.getIdempotencyKey() + ":" + operation : null;
+    }
+
+    /**
+     * Runs the remote call of a step, recording the error on the deployment if it fails
+     */
+    private <T> T callRemote(SmartContractDeployment deployment, String action, Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            // Rejected without calling the downstream, surfaced as is so it maps to 503
+            log.warn("Cannot {} for deployment ID {}: {}", action, deployment.getId(), e.getMessage());
+            transitionRecorder.recordFailure(deployment.getId(), "Failed to " + action + ": " + e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to {} for deployment ID {}", action, deployment.getId(), e);
+            String errorMessage = "Failed to " + action + ": " + e.getMessage();
+            transitionRecorder.recordFailure(deployment.getId(), errorMessage);
+            throw new DeploymentException(errorMessage, e);
+        }
+    }
+}
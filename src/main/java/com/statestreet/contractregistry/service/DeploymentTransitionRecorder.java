@@ -0,0 +1,165 @@
+package com.statestreet.contractregistry.service;
+
+import com.statestreet.contractregistry.exception.DeploymentException;
+import com.statestreet.contractregistry.exception.ResourceNotFoundException;
+import com.statestreet.contractregistry.model.SmartContractDeployment;
+import com.statestreet.contractregistry.model.TokenRegistrationOutbox;
+import com.statestreet.contractregistry.repository.SmartContractDeploymentRepository;
+import com.statestreet.contractregistry.repository.TokenRegistrationOutboxRepository;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentEvent;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentState;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentTransitionEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Persists deployment state transitions, each in its own short transaction.
+ * No remote calls are made from here, so a database connection is only held
+ * for the duration of a single row update.
+ */
+@Component
+public class DeploymentTransitionRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(DeploymentTransitionRecorder.class);
+
+    private final SmartContractDeploymentRepository deploymentRepository;
+    private final TokenRegistrationOutboxRepository outboxRepository;
+    private final DeploymentTransitionEngine transitionEngine;
+
+    public DeploymentTransitionRecorder(SmartContractDeploymentRepository deploymentRepository,
+            TokenRegistrationOutboxRepository outboxRepository,
+            DeploymentTransitionEngine transitionEngine) {
+        this.deploymentRepository = deploymentRepository;
+        this.outboxRepository = outboxRepository;
+        this.transitionEngine = transitionEngine;
+    }
+
+    /**
+     * Saves a new deployment
+     */
+    @Transactional
+    public SmartContractDeployment create(SmartContractDeployment deployment) {
+        return deploymentRepository.save(deployment);
+    }
+
+    /**
+     * Applies an event to the persisted state of a deployment together with the data produced by the step.
+     * The row is locked so concurrent callers cannot apply the same step twice.
+     *
+     * @throws DeploymentException if the event is not accepted in the persisted state
+     */
+    @Transactional
+    public SmartContractDeployment recordTransition(Long deploymentId, DeploymentEvent event,
+            Consumer<SmartContractDeployment> changes) {
+        SmartContractDeployment deployment = findForUpdate(deploymentId);
+        DeploymentState currentState = deployment.getCurrentState();
+
+        DeploymentState target = transitionEngine.fire(deploymentId.toString(), currentState, event);
+        if (target == null) {
+            log.error("Event {} not accepted for deployment ID {} in state {}", event, deploymentId, currentState);
+            throw new DeploymentException("Cannot apply " + event + " to deployment in state: " + currentState);
+        }
+
+        changes.accept(deployment);
+        deployment.setCurrentState(target);
+        deployment.setErrorMessage(null);
+
+        return deploymentRepository.save(deployment);
+    }
+
+    /**
+     * Applies the same event to many deployments in one transaction.
+     * Deployments that have meanwhile left the expected state are skipped.
+     *
+     * @param changes The data produced for each deployment, keyed by deployment ID
+     * @return The deployments that were transitioned
+     */
+    @Transactional
+    public List<SmartContractDeployment> recordTransitions(DeploymentEvent event,
+            Map<Long, Consumer<SmartContractDeployment>> changes) {
+        List<SmartContractDeployment> transitioned = new ArrayList<>(changes.size());
+
+        for (SmartContractDeployment deployment : deploymentRepository.findWithLockByIdIn(changes.keySet())) {
+            DeploymentState currentState = deployment.getCurrentState();
+            DeploymentState target = transitionEngine.fire(deployment.getId().toString(), currentState, event);
+            if (target == null) {
+                log.warn("Skipping {} for deployment ID {} in state {}", event, deployment.getId(), currentState);
+                continue;
+            }
+
+            changes.get(deployment.getId()).accept(deployment);
+            deployment.setCurrentState(target);
+            deployment.setErrorMessage(null);
+            transitioned.add(deployment);
+        }
+
+        return deploymentRepository.saveAll(transitioned);
+    }
+
+    /**
+     * Records the whitelist approval and queues the token registration in the same transaction,
+     * so an approved whitelist always has its registration pending in the outbox
+     */
+    @Transactional
+    public SmartContractDeployment recordWhitelistApproved(Long deploymentId) {
+        SmartContractDeployment deployment = recordTransition(deploymentId, DeploymentEvent.WHITELIST_APPROVED, d -> { });
+        enqueueTokenRegistration(deployment);
+        return deployment;
+    }
+
+    /**
+     * Queues the token registration of a whitelisted deployment unless it is already queued or sent.
+     * A registration that gave up after its max attempts is queued again from scratch.
+     */
+    @Transactional
+    public void enqueueTokenRegistration(Long deploymentId) {
+        enqueueTokenRegistration(findForUpdate(deploymentId));
+    }
+
+    private void enqueueTokenRegistration(SmartContractDeployment deployment) {
+        TokenRegistrationOutbox existing = outboxRepository.findByDeploymentId(deployment.getId()).orElse(null);
+        if (existing != null) {
+            if (existing.getStatus() == TokenRegistrationOutbox.Status.FAILED) {
+                existing.setStatus(TokenRegistrationOutbox.Status.PENDING);
+                existing.setAttempts(0);
+                existing.setLastError(null);
+                existing.setProcessedAt(null);
+                existing.setNextAttemptAt(LocalDateTime.now());
+                outboxRepository.save(existing);
+                log.info("Requeued failed token registration for deployment ID {}", deployment.getId());
+            }
+            return;
+        }
+        outboxRepository.save(TokenRegistrationOutbox.builder()
+                .deploymentId(deployment.getId())
+                .contractAddress(deployment.getContractAddress())
+                .metadata("{\"name\":\"" + deployment.getContractName() + "\"}")
+                .status(TokenRegistrationOutbox.Status.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.info("Queued token registration for deployment ID {}", deployment.getId());
+    }
+
+    /**
+     * Records a failed step. The deployment keeps its last persisted state so the step can be resumed.
+     */
+    @Transactional
+    public SmartContractDeployment recordFailure(Long deploymentId, String errorMessage) {
+        SmartContractDeployment deployment = findForUpdate(deploymentId);
+        deployment.setErrorMessage(errorMessage);
+        return deploymentRepository.save(deployment);
+    }
+
+    private SmartContractDeployment findForUpdate(Long deploymentId) {
+        return deploymentRepository.findWithLockById(deploymentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Deployment not found with ID: " + deploymentId));
+    }
+}
@@ -0,0 +1,164 @@
+package com.statestreet.contractregistry.service;
+
+import com.statestreet.contractregistry.client.HashSigningBatcher;
+import com.statestreet.contractregistry.client.ReactiveHashSigningServiceClient;
+import com.statestreet.contractregistry.client.ReactiveTaurusProtectClient;
+import com.statestreet.contractregistry.exception.DeploymentException;
+import com.statestreet.contractregistry.model.SmartContractDeployment;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentEvent;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentState;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking counterpart of {@link DeploymentStepExecutor}.
+ * Remote calls run on the WebClient event loop, so no thread is parked while a downstream
+ * service responds; only the short transition transaction runs on the bounded elastic scheduler.
+ * Steps without a remote call are delegated to {@link DeploymentStepExecutor}.
+ */
+@Component
+public class ReactiveDeploymentStepExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveDeploymentStepExecutor.class);
+
+    private final DeploymentStepExecutor stepExecutor;
+    private final DeploymentTransitionRecorder transitionRecorder;
+    private final ReactiveTaurusProtectClient taurusProtectClient;
+    private final ReactiveHashSigningServiceClient hashServiceClient;
+    private final HashSigningBatcher hashSigningBatcher;
+    private final ContractBlobStore blobStore;
+
+    public ReactiveDeploymentStepExecutor(DeploymentStepExecutor stepExecutor,
+            DeploymentTransitionRecorder transitionRecorder,
+            ReactiveTaurusProtectClient taurusProtectClient,
+            ReactiveHashSigningServiceClient hashServiceClient,
+            HashSigningBatcher hashSigningBatcher,
+            ContractBlobStore blobStore) {
+        this.stepExecutor = stepExecutor;
+        this.transitionRecorder = transitionRecorder;
+        this.taurusProtectClient = taurusProtectClient;
+        this.hashServiceClient = hashServiceClient;
+        this.hashSigningBatcher = hashSigningBatcher;
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * Executes the step that follows the current state of the deployment
+     *
+     * @param deployment The deployment to advance
+     * @return The updated deployment, or the same instance if the step made no progress;
+     *         errors with {@link DeploymentException} if the remote call of the step fails
+     */
+    public Mono<SmartContractDeployment> executeStep(SmartContractDeployment deployment) {
+        Long id = deployment.getId();
+        DeploymentState state = deployment.getCurrentState();
+        log.info("Executing reactive deployment step from state {} for deployment ID {}", state, id);
+
+        switch (state) {
+            case INITIAL:
+                return callRemote(deployment, "authenticate with Taurus Protect", taurusProtectClient.getAuthToken())
+                        .flatMap(authToken -> record(id, DeploymentEvent.AUTHENTICATION_SUCCESS, d -> { }));
+            case AUTHENTICATED:
+                // A bytecode missing from the blob cache is read from the database, off the event loop
+                return Mono.fromCallable(() -> blobStore.get(deployment.getContractBytecodeHash()))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(bytecode -> callRemote(deployment, "initiate deployment",
+                                taurusProtectClient.deploySmartContract(
+                                        bytecode,
+                                        deployment.getContractName(),
+                                        deployment.getConstructorArgs(),
+                                        DeploymentStepExecutor.idempotencyKey(deployment, "deploy"))))
+                        .flatMap(requestId -> record(id, DeploymentEvent.DEPLOYMENT_REQUEST_SUCCESS,
+                                d -> d.setRequestId(requestId)));
+            case APPROVAL_PENDING:
+                return callRemote(deployment, "fetch deployment hash",
+                        taurusProtectClient.getRequestDetails(deployment.getRequestId()))
+                        .flatMap(requestDetails -> record(id, DeploymentEvent.HASH_FETCHED, d -> {
+                            d.setHashValue(requestDetails.getHash());
+                            d.setHashMetadata(requestDetails.getMetadata());
+                        }));
+            case HASH_RETRIEVED:
+                return callRemote(deployment, "sign deployment hash",
+                        signHash(deployment.getHashValue(), deployment.getHashMetadata()))
+                        .flatMap(signedHash -> record(id, DeploymentEvent.HASH_SIGNED,
+                                d -> d.setSignedHash(signedHash)));
+            case HASH_SIGNED:
+                return callRemote(deployment, "approve deployment",
+                        taurusProtectClient.approveDeployment(deployment.getRequestId(), deployment.getSignedHash(),
+                                DeploymentStepExecutor.idempotencyKey(deployment, "approve")))
+                        .flatMap(signatures -> record(id, DeploymentEvent.DEPLOYMENT_APPROVED, d -> { }));
+            case DEPLOYMENT_APPROVED:
+                return callRemote(deployment, "check deployment status",
+                        taurusProtectClient.getRequestDetails(deployment.getRequestId()))
+                        .flatMap(requestDetails -> requestDetails.isDeployed()
+                                ? record(id, DeploymentEvent.DEPLOYMENT_COMPLETED,
+                                        d -> DeploymentStepExecutor.applyDeploymentDetails(d, requestDetails))
+                                : Mono.just(deployment));
+            case WHITELIST_REQUESTED:
+                return callRemote(deployment, "fetch whitelist hash",
+                        taurusProtectClient.getWhitelistApprovalDetails(deployment.getWhitelistId()))
+                        .flatMap(whitelistDetails -> record(id, DeploymentEvent.WHITELIST_HASH_FETCHED, d -> {
+                            d.setWhitelistHash(whitelistDetails.getHash());
+                            d.setWhitelistMetadata(whitelistDetails.getMetadata());
+                        }));
+            case WHITELIST_HASH_RETRIEVED:
+                return callRemote(deployment, "sign whitelist hash",
+                        signHash(deployment.getWhitelistHash(), deployment.getWhitelistMetadata()))
+                        .flatMap(signedWhitelistHash -> record(id, DeploymentEvent.WHITELIST_HASH_SIGNED,
+                                d -> d.setSignedWhitelistHash(signedWhitelistHash)));
+            case WHITELIST_HASH_SIGNED:
+                return callRemote(deployment, "approve whitelist",
+                        taurusProtectClient.approveWhitelist(deployment.getWhitelistId(), deployment.getSignedWhitelistHash(),
+                                DeploymentStepExecutor.idempotencyKey(deployment, "whitelist-approve")))
+                        .flatMap(signatures -> Mono.fromCallable(() -> transitionRecorder.recordWhitelistApproved(id))
+                                .subscribeOn(Schedulers.boundedElastic()));
+            default:
+                // Local transitions only touch the database
+                return Mono.fromCallable(() -> stepExecutor.executeStep(deployment))
+                        .subscribeOn(Schedulers.boundedElastic());
+        }
+    }
+
+    /**
+     * Signs through the micro-batcher when it is enabled, otherwise calls the hash service directly
+     */
+    private Mono<String> signHash(String hash, String metadata) {
+        if (hashSigningBatcher.isEnabled()) {
+            return Mono.fromFuture(() -> hashSigningBatcher.submit(hash, metadata));
+        }
+        return hashServiceClient.signHash(hash, metadata);
+    }
+
+    private Mono<SmartContractDeployment> record(Long id, DeploymentEvent event, Consumer<SmartContractDeployment> changes) {
+        return Mono.fromCallable(() -> transitionRecorder.recordTransition(id, event, changes))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Runs the remote call of a step, recording the error on the deployment if it fails
+     */
+    private <T> Mono<T> callRemote(SmartContractDeployment deployment, String action, Mono<T> call) {
+        return call.onErrorResume(e -> {
+            String errorMessage = "Failed to " + action + ": " + e.getMessage();
+            Throwable failure;
+            if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+                // Rejected without calling the downstream
+                log.warn("Cannot {} for deployment ID {}: {}", action, deployment.getId(), e.getMessage());
+                failure = e;
+            } else {
+                log.error("Failed to {} for deployment ID {}", action, deployment.getId(), e);
+                failure = new DeploymentException(errorMessage, e);
+            }
+            return Mono.fromRunnable(() -> transitionRecorder.recordFailure(deployment.getId(), errorMessage))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(Mono.error(failure));
+        });
+    }
+}
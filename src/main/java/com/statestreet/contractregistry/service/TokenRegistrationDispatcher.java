@@ -0,0 +1,101 @@
+package com.statestreet.contractregistry.service;
+
+import com.statestreet.contractregistry.client.ReactiveTokenRegistryClient;
+import com.statestreet.contractregistry.model.TokenRegistrationOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drains the token registration outbox in batches.
+ * Registrations of a batch are sent concurrently; each outcome is recorded in its own
+ * transaction, and failed entries are retried with exponential backoff and jitter.
+ */
+@Component
+@ConditionalOnProperty(name = "deployment.token-outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class TokenRegistrationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRegistrationDispatcher.class);
+
+    private final TokenRegistrationOutboxStore outboxStore;
+    private final ReactiveTokenRegistryClient tokenRegistryClient;
+
+    @Value("${deployment.token-outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${deployment.token-outbox.concurrency:8}")
+    private int concurrency;
+
+    @Value("${deployment.token-outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${deployment.token-outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${deployment.token-outbox.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${deployment.token-outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    public TokenRegistrationDispatcher(TokenRegistrationOutboxStore outboxStore,
+            ReactiveTokenRegistryClient tokenRegistryClient) {
+        this.outboxStore = outboxStore;
+        this.tokenRegistryClient = tokenRegistryClient;
+    }
+
+    @Scheduled(fixedDelayString = "${deployment.token-outbox.interval-ms:2000}")
+    public void dispatch() {
+        List<TokenRegistrationOutbox> batch;
+        do {
+            batch = outboxStore.claimDue(batchSize, leaseMs);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            log.info("Dispatching {} token registrations", batch.size());
+            Flux.fromIterable(batch)
+                    .flatMap(this::register, concurrency)
+                    .blockLast();
+        } while (batch.size() == batchSize);
+    }
+
+    private Mono<Void> register(TokenRegistrationOutbox entry) {
+        return tokenRegistryClient.registerToken(entry.getContractAddress(), entry.getMetadata())
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(registered -> outboxStore.complete(entry.getId()))
+                .then()
+                .onErrorResume(e -> Mono.fromRunnable(() -> recordFailure(entry, e))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then());
+    }
+
+    private void recordFailure(TokenRegistrationOutbox entry, Throwable e) {
+        log.warn("Token registration failed for deployment ID {} (attempt {}): {}",
+                entry.getDeploymentId(), entry.getAttempts() + 1, e.getMessage());
+        try {
+            outboxStore.fail(entry.getId(), e.getMessage(), LocalDateTime.now().plusNanos(backoffMs(entry.getAttempts()) * 1_000_000), maxAttempts);
+        } catch (Exception storeError) {
+            // The lease expires and the entry is picked up again
+            log.error("Failed to record token registration failure for outbox entry {}", entry.getId(), storeError);
+        }
+    }
+
+    /**
+     * Exponential backoff with full jitter, capped at max-backoff-ms
+     */
+    private long backoffMs(int attempts) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempts, 20));
+        return ThreadLocalRandom.current().nextLong(initialBackoffMs, Math.max(initialBackoffMs, ceiling) + 1);
+    }
+}
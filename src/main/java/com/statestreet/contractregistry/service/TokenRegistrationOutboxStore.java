@@ -0,0 +1,104 @@
+package com.statestreet.contractregistry.service;
+
+import com.statestreet.contractregistry.model.SmartContractDeployment;
+import com.statestreet.contractregistry.model.TokenRegistrationOutbox;
+import com.statestreet.contractregistry.repository.SmartContractDeploymentRepository;
+import com.statestreet.contractregistry.repository.TokenRegistrationOutboxRepository;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentEvent;
+import com.statestreet.contractregistry.statemachine.ContractDeployment.DeploymentState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Short transactions of the token registration outbox: claiming due entries and
+ * recording the outcome of each registration together with the deployment transitions.
+ */
+@Component
+public class TokenRegistrationOutboxStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRegistrationOutboxStore.class);
+
+    private final TokenRegistrationOutboxRepository outboxRepository;
+    private final SmartContractDeploymentRepository deploymentRepository;
+    private final DeploymentTransitionRecorder transitionRecorder;
+
+    public TokenRegistrationOutboxStore(TokenRegistrationOutboxRepository outboxRepository,
+            SmartContractDeploymentRepository deploymentRepository,
+            DeploymentTransitionRecorder transitionRecorder) {
+        this.outboxRepository = outboxRepository;
+        this.deploymentRepository = deploymentRepository;
+        this.transitionRecorder = transitionRecorder;
+    }
+
+    /**
+     * Claims up to batchSize due entries by pushing their next attempt past the lease,
+     * so other dispatchers leave them alone while this one calls the registry
+     */
+    @Transactional
+    public List<TokenRegistrationOutbox> claimDue(int batchSize, long leaseMs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TokenRegistrationOutbox> due = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                TokenRegistrationOutbox.Status.PENDING, now, PageRequest.of(0, batchSize));
+
+        LocalDateTime leaseEnd = now.plusNanos(leaseMs * 1_000_000);
+        for (TokenRegistrationOutbox entry : due) {
+            entry.setNextAttemptAt(leaseEnd);
+        }
+        return outboxRepository.saveAll(due);
+    }
+
+    /**
+     * Marks the entry sent and moves the deployment through TOKEN_REGISTERED to COMPLETED
+     */
+    @Transactional
+    public void complete(Long outboxId) {
+        TokenRegistrationOutbox entry = findForUpdate(outboxId);
+        entry.setStatus(TokenRegistrationOutbox.Status.SENT);
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setLastError(null);
+        entry.setProcessedAt(LocalDateTime.now());
+        outboxRepository.save(entry);
+
+        Long deploymentId = entry.getDeploymentId();
+        SmartContractDeployment deployment = deploymentRepository.findById(deploymentId).orElse(null);
+        if (deployment == null || deployment.getCurrentState() != DeploymentState.WHITELIST_APPROVED) {
+            log.warn("Token registered for deployment ID {} which is no longer awaiting registration", deploymentId);
+            return;
+        }
+
+        transitionRecorder.recordTransition(deploymentId, DeploymentEvent.TOKEN_REGISTERED, d -> { });
+        transitionRecorder.recordTransition(deploymentId, DeploymentEvent.REGISTER_TOKEN, d -> { });
+    }
+
+    /**
+     * Records a failed attempt, scheduling the next one or giving up after maxAttempts
+     */
+    @Transactional
+    public void fail(Long outboxId, String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        TokenRegistrationOutbox entry = findForUpdate(outboxId);
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setLastError(error);
+
+        if (entry.getAttempts() >= maxAttempts) {
+            log.error("Giving up token registration for deployment ID {} after {} attempts",
+                    entry.getDeploymentId(), entry.getAttempts());
+            entry.setStatus(TokenRegistrationOutbox.Status.FAILED);
+            entry.setProcessedAt(LocalDateTime.now());
+            transitionRecorder.recordFailure(entry.getDeploymentId(), "Failed to register token: " + error);
+        } else {
+            entry.setNextAttemptAt(nextAttemptAt);
+        }
+        outboxRepository.save(entry);
+    }
+
+    private TokenRegistrationOutbox findForUpdate(Long outboxId) {
+        return outboxRepository.findWithLockById(outboxId)
+                .orElseThrow(() -> new IllegalStateException("Token registration outbox entry not found: " + outboxId));
+    }
+}
@@ -0,0 +1,33 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Shared guard and listener handling for the transition engines
+ */
+public abstract class AbstractDeploymentTransitionEngine implements DeploymentTransitionEngine {
+
+    private final DeploymentTransitionGuard[] guards;
+    private final DeploymentTransitionListener[] listeners;
+
+    protected AbstractDeploymentTransitionEngine(ObjectProvider<DeploymentTransitionGuard> guards,
+            ObjectProvider<DeploymentTransitionListener> listeners) {
+        this.guards = guards.orderedStream().toArray(DeploymentTransitionGuard[]::new);
+        this.listeners = listeners.orderedStream().toArray(DeploymentTransitionListener[]::new);
+    }
+
+    protected boolean permits(String deploymentId, DeploymentState source, DeploymentEvent event, DeploymentState target) {
+        for (DeploymentTransitionGuard guard : guards) {
+            if (!guard.permits(deploymentId, source, event, target)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected void notifyListeners(String deploymentId, DeploymentState source, DeploymentEvent event, DeploymentState target) {
+        for (DeploymentTransitionListener listener : listeners) {
+            listener.transitioned(deploymentId, source, event, target);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Groups the deployment states into the phases driven by the deployment API calls.
+ * Each phase lists the states from which it still has a step to execute.
+ */
+public enum DeploymentPhase {
+
+    INITIATION(EnumSet.of(
+            DeploymentState.INITIAL,
+            DeploymentState.AUTHENTICATED)),
+
+    APPROVAL(EnumSet.of(
+            DeploymentState.DEPLOY_REQUESTED,
+            DeploymentState.APPROVAL_PENDING,
+            DeploymentState.HASH_RETRIEVED,
+            DeploymentState.HASH_SIGNED,
+            DeploymentState.DEPLOYMENT_APPROVED)),
+
+    WHITELIST(EnumSet.of(
+            DeploymentState.DEPLOYED,
+            DeploymentState.WHITELIST_REQUESTED,
+            DeploymentState.WHITELIST_HASH_RETRIEVED,
+            DeploymentState.WHITELIST_HASH_SIGNED,
+            DeploymentState.WHITELIST_APPROVED,
+            DeploymentState.TOKEN_REGISTERED));
+
+    private final Set<DeploymentState> states;
+
+    DeploymentPhase(Set<DeploymentState> states) {
+        this.states = states;
+    }
+
+    /**
+     * @return true if the phase has a step to execute from the given state
+     */
+    public boolean includes(DeploymentState state) {
+        return states.contains(state);
+    }
+}
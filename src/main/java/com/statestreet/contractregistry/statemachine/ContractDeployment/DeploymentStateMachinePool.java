@@ -0,0 +1,118 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.state.State;
+import org.springframework.statemachine.support.DefaultStateMachineContext;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of started state machines keyed by deployment ID.
+ * A cached machine is only reset when its state no longer matches the persisted
+ * state of the deployment, so consecutive events for the same deployment reuse
+ * a warm instance instead of building, stopping, resetting and starting a new one.
+ */
+@Component
+@ConditionalOnProperty(name = "deployment.transition-engine", havingValue = "spring", matchIfMissing = true)
+public class DeploymentStateMachinePool {
+
+    private static final Logger log = LoggerFactory.getLogger(DeploymentStateMachinePool.class);
+
+    private final StateMachineFactory<DeploymentState, DeploymentEvent> stateMachineFactory;
+    private final Cache<String, PooledStateMachine> machines;
+
+    public DeploymentStateMachinePool(StateMachineFactory<DeploymentState, DeploymentEvent> stateMachineFactory,
+            @Value("${deployment.state-machine.pool.max-size:1000}") long maxSize,
+            @Value("${deployment.state-machine.pool.idle-timeout-minutes:10}") long idleTimeoutMinutes) {
+        this.stateMachineFactory = stateMachineFactory;
+        this.machines = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleTimeoutMinutes, TimeUnit.MINUTES)
+                .removalListener(this::onRemoval)
+                .build();
+    }
+
+    /**
+     * Runs an action against the state machine of a deployment, positioned at the given state.
+     * Access to a single machine is serialized; machines of different deployments run concurrently.
+     */
+    public <T> T execute(String deploymentId, DeploymentState currentState,
+            Function<StateMachine<DeploymentState, DeploymentEvent>, T> action) {
+        while (true) {
+            PooledStateMachine pooled = machines.get(deploymentId, this::create);
+
+            synchronized (pooled) {
+                if (pooled.retired) {
+                    // Evicted between lookup and lock, pick up a fresh instance
+                    continue;
+                }
+
+                StateMachine<DeploymentState, DeploymentEvent> stateMachine = pooled.stateMachine;
+                if (currentStateOf(stateMachine) != currentState) {
+                    reset(stateMachine, currentState);
+                }
+
+                T result = action.apply(stateMachine);
+
+                if (stateMachine.isComplete()) {
+                    // Deployment reached an end state, nothing more will be sent to this machine
+                    machines.invalidate(deploymentId);
+                }
+                return result;
+            }
+        }
+    }
+
+    private PooledStateMachine create(String deploymentId) {
+        return new PooledStateMachine(stateMachineFactory.getStateMachine(deploymentId));
+    }
+
+    private void onRemoval(String deploymentId, PooledStateMachine pooled, RemovalCause cause) {
+        if (pooled == null) {
+            return;
+        }
+        synchronized (pooled) {
+            pooled.retired = true;
+            pooled.stateMachine.stopReactively().block();
+        }
+        log.debug("Released state machine for deployment ID {} ({})", deploymentId, cause);
+    }
+
+    private static DeploymentState currentStateOf(StateMachine<DeploymentState, DeploymentEvent> stateMachine) {
+        State<DeploymentState, DeploymentEvent> state = stateMachine.getState();
+        return state != null ? state.getId() : null;
+    }
+
+    /**
+     * Moves a machine to the given state using the reactive lifecycle of Spring State Machine 3.2.x
+     */
+    private static void reset(StateMachine<DeploymentState, DeploymentEvent> stateMachine, DeploymentState currentState) {
+        stateMachine.stopReactively().block();
+
+        stateMachine.getStateMachineAccessor()
+                .doWithAllRegions(accessor -> accessor.resetStateMachineReactively(
+                        new DefaultStateMachineContext<>(currentState, null, null, null, null))
+                        .block());
+
+        stateMachine.startReactively().block();
+    }
+
+    private static final class PooledStateMachine {
+        private final StateMachine<DeploymentState, DeploymentEvent> stateMachine;
+        private boolean retired;
+
+        private PooledStateMachine(StateMachine<DeploymentState, DeploymentEvent> stateMachine) {
+            this.stateMachine = stateMachine;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+/**
+ * Applies deployment events to deployment states.
+ * The implementation is selected with the {@code deployment.transition-engine} property:
+ * {@code spring} runs events through Spring State Machine, {@code table} looks them up
+ * in the precomputed {@link DeploymentTransitionTable}.
+ */
+public interface DeploymentTransitionEngine {
+
+    /**
+     * Fires an event for a deployment that is currently in the given state
+     *
+     * @param deploymentId The ID of the deployment
+     * @param currentState The state the deployment is in
+     * @param event The event to apply
+     * @return The target state, or {@code null} if the event is not accepted in the current state
+     */
+    DeploymentState fire(String deploymentId, DeploymentState currentState, DeploymentEvent event);
+}
@@ -0,0 +1,12 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+/**
+ * Guard consulted by every {@link DeploymentTransitionEngine} before a transition is taken
+ */
+public interface DeploymentTransitionGuard {
+
+    /**
+     * @return true if the deployment may move from {@code source} to {@code target} on {@code event}
+     */
+    boolean permits(String deploymentId, DeploymentState source, DeploymentEvent event, DeploymentState target);
+}
@@ -0,0 +1,9 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+/**
+ * Listener notified by every {@link DeploymentTransitionEngine} after a transition is taken
+ */
+public interface DeploymentTransitionListener {
+
+    void transitioned(String deploymentId, DeploymentState source, DeploymentEvent event, DeploymentState target);
+}
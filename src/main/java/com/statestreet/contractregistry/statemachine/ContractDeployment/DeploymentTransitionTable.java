@@ -0,0 +1,67 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Precomputed transition table for the deployment process.
+ * Mirrors the transitions configured in {@link StateMachineConfig}: a linear path from
+ * INITIAL to COMPLETED, plus ERROR_OCCURRED from every non-final state except TOKEN_REGISTERED,
+ * which StateMachineConfig gives no error transition.
+ */
+public final class DeploymentTransitionTable {
+
+    private static final Map<DeploymentState, EnumMap<DeploymentEvent, DeploymentState>> TRANSITIONS =
+            new EnumMap<>(DeploymentState.class);
+
+    static {
+        for (DeploymentState state : DeploymentState.values()) {
+            TRANSITIONS.put(state, new EnumMap<>(DeploymentEvent.class));
+        }
+
+        add(DeploymentState.INITIAL, DeploymentEvent.AUTHENTICATION_SUCCESS, DeploymentState.AUTHENTICATED);
+        add(DeploymentState.AUTHENTICATED, DeploymentEvent.DEPLOYMENT_REQUEST_SUCCESS, DeploymentState.DEPLOY_REQUESTED);
+        add(DeploymentState.DEPLOY_REQUESTED, DeploymentEvent.REQUEST_APPROVAL, DeploymentState.APPROVAL_PENDING);
+        add(DeploymentState.APPROVAL_PENDING, DeploymentEvent.HASH_FETCHED, DeploymentState.HASH_RETRIEVED);
+        add(DeploymentState.HASH_RETRIEVED, DeploymentEvent.HASH_SIGNED, DeploymentState.HASH_SIGNED);
+        add(DeploymentState.HASH_SIGNED, DeploymentEvent.DEPLOYMENT_APPROVED, DeploymentState.DEPLOYMENT_APPROVED);
+        add(DeploymentState.DEPLOYMENT_APPROVED, DeploymentEvent.DEPLOYMENT_COMPLETED, DeploymentState.DEPLOYED);
+        add(DeploymentState.DEPLOYED, DeploymentEvent.REQUEST_WHITELIST, DeploymentState.WHITELIST_REQUESTED);
+        add(DeploymentState.WHITELIST_REQUESTED, DeploymentEvent.WHITELIST_HASH_FETCHED, DeploymentState.WHITELIST_HASH_RETRIEVED);
+        add(DeploymentState.WHITELIST_HASH_RETRIEVED, DeploymentEvent.WHITELIST_HASH_SIGNED, DeploymentState.WHITELIST_HASH_SIGNED);
+        add(DeploymentState.WHITELIST_HASH_SIGNED, DeploymentEvent.WHITELIST_APPROVED, DeploymentState.WHITELIST_APPROVED);
+        add(DeploymentState.WHITELIST_APPROVED, DeploymentEvent.TOKEN_REGISTERED, DeploymentState.TOKEN_REGISTERED);
+        add(DeploymentState.TOKEN_REGISTERED, DeploymentEvent.REGISTER_TOKEN, DeploymentState.COMPLETED);
+
+        // Error transitions from every non-final state but TOKEN_REGISTERED
+        for (DeploymentState state : DeploymentState.values()) {
+            if (state != DeploymentState.TOKEN_REGISTERED && !isFinal(state)) {
+                add(state, DeploymentEvent.ERROR_OCCURRED, DeploymentState.ERROR);
+            }
+        }
+    }
+
+    private DeploymentTransitionTable() {
+    }
+
+    /**
+     * @return The target state for the event, or {@code null} if there is no such transition
+     */
+    public static DeploymentState target(DeploymentState source, DeploymentEvent event) {
+        if (source == null || event == null) {
+            return null;
+        }
+        return TRANSITIONS.get(source).get(event);
+    }
+
+    /**
+     * @return true if the state is an end state of the deployment process
+     */
+    public static boolean isFinal(DeploymentState state) {
+        return state == DeploymentState.COMPLETED || state == DeploymentState.ERROR;
+    }
+
+    private static void add(DeploymentState source, DeploymentEvent event, DeploymentState target) {
+        TRANSITIONS.get(source).put(event, target);
+    }
+}
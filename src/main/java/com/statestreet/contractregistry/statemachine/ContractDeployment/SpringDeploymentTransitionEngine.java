@@ -0,0 +1,57 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.statemachine.StateMachineEventResult;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Transition engine that runs events through the Spring State Machine configured in {@link StateMachineConfig}
+ */
+@Component
+@ConditionalOnProperty(name = "deployment.transition-engine", havingValue = "spring", matchIfMissing = true)
+public class SpringDeploymentTransitionEngine extends AbstractDeploymentTransitionEngine {
+
+    private static final String DEPLOYMENT_ID_HEADER = "deploymentId";
+
+    private final DeploymentStateMachinePool stateMachinePool;
+
+    public SpringDeploymentTransitionEngine(DeploymentStateMachinePool stateMachinePool,
+            ObjectProvider<DeploymentTransitionGuard> guards,
+            ObjectProvider<DeploymentTransitionListener> listeners) {
+        super(guards, listeners);
+        this.stateMachinePool = stateMachinePool;
+    }
+
+    @Override
+    public DeploymentState fire(String deploymentId, DeploymentState currentState, DeploymentEvent event) {
+        // Guards see the same target as the table engine, the machine itself has no guards configured
+        DeploymentState expectedTarget = DeploymentTransitionTable.target(currentState, event);
+        if (expectedTarget != null && !permits(deploymentId, currentState, event, expectedTarget)) {
+            return null;
+        }
+
+        Message<DeploymentEvent> message = MessageBuilder.withPayload(event)
+                .setHeader(DEPLOYMENT_ID_HEADER, deploymentId)
+                .build();
+
+        DeploymentState target = stateMachinePool.execute(deploymentId, currentState, stateMachine -> {
+            // Use reactive approach with Spring State Machine 3.2.x
+            StateMachineEventResult<DeploymentState, DeploymentEvent> result =
+                    stateMachine.sendEvent(Mono.just(message)).blockLast();
+
+            if (result == null || result.getResultType() != StateMachineEventResult.ResultType.ACCEPTED) {
+                return null;
+            }
+            return stateMachine.getState().getId();
+        });
+
+        if (target != null) {
+            notifyListeners(deploymentId, currentState, event, target);
+        }
+        return target;
+    }
+}
@@ -12,7 +12,6 @@ import org.springframework.statemachine.config.builders.StateMachineTransitionCo
 import org.springframework.statemachine.listener.StateMachineListener;
 import org.springframework.statemachine.listener.StateMachineListenerAdapter;
 import org.springframework.statemachine.state.State;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.EnumSet;
 
@@ -200,16 +199,19 @@ public class StateMachineConfig extends EnumStateMachineConfigurerAdapter<Deploy
             @Override
             public void stateChanged(State<DeploymentState, DeploymentEvent> from, State<DeploymentState, DeploymentEvent> to) {
                 if (from != null) {
-                    log.info("State changed from {} to {}", from.getId(), to.getId());
+                    logStateChanged(from.getId(), to.getId());
                 } else {
                     log.info("State initialized to {}", to.getId());
                 }
             }
         };
     }
-    
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+
+    /**
+     * State change audit line of the listener, also written by {@link TableDeploymentTransitionEngine}
+     * so both engines log transitions the same way
+     */
+    static void logStateChanged(DeploymentState from, DeploymentState to) {
+        log.info("State changed from {} to {}", from, to);
     }
 }
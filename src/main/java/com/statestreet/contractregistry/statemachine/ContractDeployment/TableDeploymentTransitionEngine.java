@@ -0,0 +1,37 @@
+package com.statestreet.contractregistry.statemachine.ContractDeployment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transition engine backed by {@link DeploymentTransitionTable}.
+ * A transition is two enum map lookups; no state machine instance, message or reactive pipeline is created.
+ */
+@Component
+@ConditionalOnProperty(name = "deployment.transition-engine", havingValue = "table")
+public class TableDeploymentTransitionEngine extends AbstractDeploymentTransitionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(TableDeploymentTransitionEngine.class);
+
+    public TableDeploymentTransitionEngine(ObjectProvider<DeploymentTransitionGuard> guards,
+            ObjectProvider<DeploymentTransitionListener> listeners) {
+        super(guards, listeners);
+    }
+
+    @Override
+    public DeploymentState fire(String deploymentId, DeploymentState currentState, DeploymentEvent event) {
+        DeploymentState target = DeploymentTransitionTable.target(currentState, event);
+
+        if (target == null || !permits(deploymentId, currentState, event, target)) {
+            log.debug("Event {} not accepted for deployment ID {} in state {}", event, deploymentId, currentState);
+            return null;
+        }
+
+        StateMachineConfig.logStateChanged(currentState, target);
+        notifyListeners(deploymentId, currentState, event, target);
+        return target;
+    }
+}
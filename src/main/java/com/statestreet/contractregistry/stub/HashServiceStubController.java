@@ -0,0 +1,89 @@
+package com.statestreet.contractregistry.stub;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Local stand-in for STT Hash Service, active with the "stub" profile.
+ * Signs with a fixed HMAC key and can hide the batch endpoint to exercise the single-call fallback.
+ * Latency and errors follow stub.hash-service.*, see {@link StubResponder}.
+ */
+@RestController
+@Profile("stub")
+@RequestMapping("/stub/hash-service/api")
+public class HashServiceStubController {
+
+    private static final Logger log = LoggerFactory.getLogger(HashServiceStubController.class);
+
+    private static final byte[] SIGNING_KEY = "contract-registry-stub-key".getBytes(StandardCharsets.UTF_8);
+
+    private static final String SERVICE = "hash-service";
+
+    private final StubResponder responder;
+
+    @Value("${stub.hash-service.batch-supported:true}")
+    private boolean batchSupported;
+
+    public HashServiceStubController(StubResponder responder) {
+        this.responder = responder;
+    }
+
+    @PostMapping("/sign")
+    public CompletableFuture<ResponseEntity<?>> sign(@RequestBody Map<String, String> request) {
+        return responder.respond(SERVICE, () -> ResponseEntity.ok(
+                Collections.singletonMap("signed_hash", sign(request.get("hash"), request.get("metadata")))));
+    }
+
+    @PostMapping("/sign/batch")
+    public CompletableFuture<ResponseEntity<?>> signBatch(@RequestBody Map<String, List<Map<String, String>>> request) {
+        if (!batchSupported) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+        }
+
+        return responder.respond(SERVICE, () -> {
+            List<Map<String, String>> items = request.getOrDefault("items", Collections.emptyList());
+            List<String> signedHashes = new ArrayList<>(items.size());
+            for (Map<String, String> item : items) {
+                signedHashes.add(sign(item.get("hash"), item.get("metadata")));
+            }
+
+            log.debug("Stub hash service signed a batch of {} hashes", signedHashes.size());
+            return ResponseEntity.ok(Collections.singletonMap("signed_hashes", signedHashes));
+        });
+    }
+
+    private static String sign(String hash, String metadata) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SIGNING_KEY, "HmacSHA256"));
+            mac.update(String.valueOf(hash).getBytes(StandardCharsets.UTF_8));
+            mac.update(String.valueOf(metadata).getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder signature = new StringBuilder("0x");
+            for (byte b : mac.doFinal()) {
+                signature.append(String.format("%02x", b));
+            }
+            return signature.toString();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
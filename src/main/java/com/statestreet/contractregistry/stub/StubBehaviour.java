@@ -0,0 +1,79 @@
+package com.statestreet.contractregistry.stub;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency and error behaviour of one stubbed downstream service, read from stub.&lt;service&gt;.*.
+ * Latency is either fixed, uniform between min-ms and max-ms, or log-normal with the given
+ * median-ms and p99-ms, which gives the long tail seen against the real services.
+ */
+public class StubBehaviour {
+
+    // z-score of the 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.3263;
+
+    enum Distribution { FIXED, UNIFORM, LOGNORMAL }
+
+    private final Distribution distribution;
+    private final long minMs;
+    private final long maxMs;
+    private final double mu;
+    private final double sigma;
+    private final double errorRate;
+    private final HttpStatus errorStatus;
+
+    private StubBehaviour(Distribution distribution, long minMs, long maxMs, long medianMs, long p99Ms,
+            double errorRate, HttpStatus errorStatus) {
+        this.distribution = distribution;
+        this.minMs = minMs;
+        this.maxMs = maxMs;
+        this.mu = Math.log(Math.max(1, medianMs));
+        this.sigma = Math.max(0, Math.log((double) Math.max(p99Ms, medianMs) / Math.max(1, medianMs)) / Z_99);
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+    }
+
+    /**
+     * Reads the behaviour of a service from the properties under the given prefix
+     */
+    public static StubBehaviour from(Environment environment, String prefix) {
+        return new StubBehaviour(
+                Distribution.valueOf(environment.getProperty(prefix + ".latency.distribution", "fixed").toUpperCase()),
+                environment.getProperty(prefix + ".latency.min-ms", Long.class, 0L),
+                environment.getProperty(prefix + ".latency.max-ms", Long.class, 0L),
+                environment.getProperty(prefix + ".latency.median-ms", Long.class, 0L),
+                environment.getProperty(prefix + ".latency.p99-ms", Long.class, 0L),
+                environment.getProperty(prefix + ".error-rate", Double.class, 0.0),
+                HttpStatus.valueOf(environment.getProperty(prefix + ".error-status", Integer.class, 503)));
+    }
+
+    /**
+     * Draws the latency of the next response, in milliseconds
+     */
+    public long sampleLatencyMs() {
+        Random random = ThreadLocalRandom.current();
+        switch (distribution) {
+            case UNIFORM:
+                return maxMs > minMs ? minMs + (long) (random.nextDouble() * (maxMs - minMs)) : minMs;
+            case LOGNORMAL:
+                return Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+            default:
+                return minMs;
+        }
+    }
+
+    /**
+     * Decides whether the next response fails
+     */
+    public boolean sampleError() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    public HttpStatus getErrorStatus() {
+        return errorStatus;
+    }
+}
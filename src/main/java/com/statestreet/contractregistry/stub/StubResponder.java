@@ -0,0 +1,68 @@
+package com.statestreet.contractregistry.stub;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Delays and fails stub responses according to the {@link StubBehaviour} of each service.
+ * Responses are completed from a scheduler rather than by sleeping, so a slow stub holds no
+ * servlet thread and the load test is bounded by the pipeline, not by the stub.
+ */
+@Component
+@Profile("stub")
+public class StubResponder {
+
+    private final Environment environment;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, StubBehaviour> behaviours = new ConcurrentHashMap<>();
+
+    public StubResponder(Environment environment, @Value("${stub.threads:4}") int threads) {
+        this.environment = environment;
+        this.scheduler = Executors.newScheduledThreadPool(threads, new CustomizableThreadFactory("stub-responder-"));
+    }
+
+    /**
+     * Answers after the sampled latency of the service, either with the response or with its configured error
+     *
+     * @param service Service name, the behaviour is read from stub.&lt;service&gt;.*
+     * @param response Builds the response; runs when the latency has elapsed
+     */
+    public CompletableFuture<ResponseEntity<?>> respond(String service, Supplier<? extends ResponseEntity<?>> response) {
+        StubBehaviour behaviour = behaviours.computeIfAbsent(service,
+                name -> StubBehaviour.from(environment, "stub." + name));
+
+        CompletableFuture<ResponseEntity<?>> future = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            try {
+                if (behaviour.sampleError()) {
+                    future.complete(ResponseEntity.status(behaviour.getErrorStatus())
+                            .body(Collections.singletonMap("error", "Injected by stub")));
+                } else {
+                    future.complete(response.get());
+                }
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, behaviour.sampleLatencyMs(), TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,231 @@
+package com.statestreet.contractregistry.stub;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Local stand-in for Taurus Protect, active with the "stub" profile.
+ * Keeps requests and whitelists in memory and moves them through the states the pipeline expects:
+ * a deployed request waits for approval, becomes "deployed" confirmation-ms after it is approved,
+ * and then has a whitelist awaiting approval. Tokens expire after token-ttl-seconds, so
+ * re-authentication is exercised too.
+ */
+@RestController
+@Profile("stub")
+@RequestMapping("/stub/taurus/v1")
+public class TaurusProtectStubController {
+
+    private static final Logger log = LoggerFactory.getLogger(TaurusProtectStubController.class);
+
+    private static final String SERVICE = "taurus";
+
+    private final StubResponder responder;
+    private final Map<String, Instant> tokens = new ConcurrentHashMap<>();
+    private final Map<String, StubRequest> requests = new ConcurrentHashMap<>();
+    private final Map<String, StubRequest> requestsByWhitelistId = new ConcurrentHashMap<>();
+    private final Map<String, String> requestIdsByIdempotencyKey = new ConcurrentHashMap<>();
+
+    @Value("${stub.taurus.token-ttl-seconds:300}")
+    private long tokenTtlSeconds;
+
+    @Value("${stub.taurus.confirmation-ms:2000}")
+    private long confirmationMs;
+
+    public TaurusProtectStubController(StubResponder responder) {
+        this.responder = responder;
+    }
+
+    @PostMapping("/auth/token")
+    public CompletableFuture<ResponseEntity<?>> authenticate(@RequestBody Map<String, String> request) {
+        return responder.respond(SERVICE, () -> {
+            String token = "stub-" + UUID.randomUUID();
+            tokens.put(token, Instant.now().plusSeconds(tokenTtlSeconds));
+            Map<String, Object> body = new HashMap<>();
+            body.put("access_token", token);
+            body.put("expires_in", tokenTtlSeconds);
+            return ResponseEntity.ok(body);
+        });
+    }
+
+    @PostMapping("/requests/outgoing_contracts/deploy")
+    public CompletableFuture<ResponseEntity<?>> deploy(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody Map<String, Object> request) {
+        return responder.respond(SERVICE, () -> authorized(authorization, () -> {
+            String requestId = idempotencyKey != null
+                    ? requestIdsByIdempotencyKey.computeIfAbsent(idempotencyKey, key -> createRequest(request))
+                    : createRequest(request);
+            return ResponseEntity.ok(Collections.singletonMap("request_id", requestId));
+        }));
+    }
+
+    @GetMapping("/requests")
+    public CompletableFuture<ResponseEntity<?>> getRequests(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestParam List<String> ids) {
+        return responder.respond(SERVICE, () -> authorized(authorization, () -> {
+            List<Map<String, Object>> found = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                StubRequest request = requests.get(id);
+                if (request != null) {
+                    found.add(request.toJson());
+                }
+            }
+            return ResponseEntity.ok(Collections.singletonMap("requests", found));
+        }));
+    }
+
+    @PostMapping("/requests/approve")
+    public CompletableFuture<ResponseEntity<?>> approve(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestBody Map<String, Object> approval) {
+        return responder.respond(SERVICE, () -> authorized(authorization, () -> {
+            StubRequest request = requests.get(String.valueOf(approval.get("request_id")));
+            if (request == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            request.approve(approval.get("signature"));
+            return ResponseEntity.ok(Collections.singletonMap("signatures", request.signatures));
+        }));
+    }
+
+    @GetMapping("/whitelists/addresses-for-approvals")
+    public CompletableFuture<ResponseEntity<?>> getWhitelists(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestParam List<String> ids) {
+        return responder.respond(SERVICE, () -> authorized(authorization, () -> {
+            List<Map<String, Object>> found = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                StubRequest request = requestsByWhitelistId.get(id);
+                if (request != null) {
+                    found.add(request.whitelistJson());
+                }
+            }
+            return ResponseEntity.ok(Collections.singletonMap("whitelists", found));
+        }));
+    }
+
+    @PostMapping("/whitelists/addresses/approve")
+    public CompletableFuture<ResponseEntity<?>> approveWhitelist(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestBody Map<String, Object> approval) {
+        return responder.respond(SERVICE, () -> authorized(authorization, () -> {
+            StubRequest request = requestsByWhitelistId.get(String.valueOf(approval.get("whitelist_id")));
+            if (request == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            request.whitelistSignatures.add(String.valueOf(approval.get("signature")));
+            return ResponseEntity.ok(Collections.singletonMap("signatures", request.whitelistSignatures));
+        }));
+    }
+
+    private ResponseEntity<?> authorized(String authorization, Supplier<ResponseEntity<?>> handler) {
+        String token = authorization.startsWith("Bearer ") ? authorization.substring("Bearer ".length()) : authorization;
+        Instant expiresAt = tokens.get(token);
+        if (expiresAt == null || Instant.now().isAfter(expiresAt)) {
+            tokens.remove(token);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return handler.get();
+    }
+
+    private String createRequest(Map<String, Object> body) {
+        StubRequest request = new StubRequest(UUID.randomUUID().toString(), String.valueOf(body.get("name")));
+        requests.put(request.id, request);
+        log.debug("Stub Taurus Protect created request {} for contract {}", request.id, request.contractName);
+        return request.id;
+    }
+
+    private static String randomHex(int bytes) {
+        StringBuilder hex = new StringBuilder("0x");
+        for (int i = 0; i < bytes; i++) {
+            hex.append(String.format("%02x", ThreadLocalRandom.current().nextInt(256)));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * A deployment request and the whitelist created once it is deployed
+     */
+    private final class StubRequest {
+
+        private final String id;
+        private final String contractName;
+        private final String hash = randomHex(32);
+        private final String whitelistHash = randomHex(32);
+        private final List<String> signatures = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> whitelistSignatures = Collections.synchronizedList(new ArrayList<>());
+        private volatile Instant approvedAt;
+        private volatile String contractAddress;
+        private volatile String transactionHash;
+        private volatile String whitelistId;
+
+        private StubRequest(String id, String contractName) {
+            this.id = id;
+            this.contractName = contractName;
+        }
+
+        void approve(Object signature) {
+            signatures.add(String.valueOf(signature));
+            if (approvedAt == null) {
+                approvedAt = Instant.now();
+            }
+        }
+
+        /**
+         * Moves the request to "deployed" once the confirmation time has passed since its approval
+         */
+        synchronized String status() {
+            if (approvedAt == null) {
+                return "pending_approval";
+            }
+            if (whitelistId == null && Instant.now().isAfter(approvedAt.plusMillis(confirmationMs))) {
+                contractAddress = randomHex(20);
+                transactionHash = randomHex(32);
+                whitelistId = UUID.randomUUID().toString();
+                requestsByWhitelistId.put(whitelistId, this);
+            }
+            return whitelistId != null ? "deployed" : "approved";
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new HashMap<>();
+            json.put("id", id);
+            json.put("status", status());
+            json.put("hash", hash);
+            json.put("metadata", Collections.singletonMap("name", contractName));
+            json.put("contract_address", contractAddress);
+            json.put("transaction_hash", transactionHash);
+            json.put("whitelist_id", whitelistId);
+            return json;
+        }
+
+        Map<String, Object> whitelistJson() {
+            Map<String, Object> json = new HashMap<>();
+            json.put("id", whitelistId);
+            json.put("hash", whitelistHash);
+            json.put("metadata", Collections.singletonMap("address", contractAddress));
+            return json;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.statestreet.contractregistry.stub;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local stand-in for STT Token Registry, active with the "stub" profile.
+ * Registrations are kept in memory; registering the same contract address again succeeds,
+ * like a retried registration from the outbox would against the real registry.
+ */
+@RestController
+@Profile("stub")
+@RequestMapping("/stub/token-registry/api")
+public class TokenRegistryStubController {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRegistryStubController.class);
+
+    private final StubResponder responder;
+    private final Map<String, String> registrations = new ConcurrentHashMap<>();
+
+    public TokenRegistryStubController(StubResponder responder) {
+        this.responder = responder;
+    }
+
+    @PostMapping("/register")
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody Map<String, String> request) {
+        return responder.respond("token-registry", () -> {
+            String contractAddress = request.get("contract_address");
+            boolean created = registrations.putIfAbsent(contractAddress, String.valueOf(request.get("metadata"))) == null;
+            log.debug("Stub token registry {} token {}", created ? "registered" : "re-registered", contractAddress);
+            return ResponseEntity.ok(Collections.singletonMap("contract_address", contractAddress));
+        });
+    }
+}
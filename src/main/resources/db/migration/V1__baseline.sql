@@ -0,0 +1,117 @@
+-- Schema as previously generated by ddl-auto=update from the entities
+
+CREATE TABLE app_registry (
+    id                BIGSERIAL PRIMARY KEY,
+    app_id            VARCHAR(255) NOT NULL,
+    app_name          VARCHAR(255) NOT NULL,
+    owner_department  VARCHAR(255) NOT NULL,
+    contact_email     VARCHAR(255) NOT NULL,
+    description       VARCHAR(255),
+    api_key           VARCHAR(255),
+    created_at        TIMESTAMP,
+    updated_at        TIMESTAMP,
+    active            BOOLEAN NOT NULL,
+    CONSTRAINT uk_app_registry_app_id UNIQUE (app_id)
+);
+
+CREATE TABLE contract_deployment (
+    id                 BIGSERIAL PRIMARY KEY,
+    request_id         VARCHAR(255) NOT NULL,
+    contract_name      VARCHAR(255) NOT NULL,
+    network            VARCHAR(255) NOT NULL,
+    deployment_params  TEXT,
+    status             VARCHAR(255) NOT NULL,
+    contract_address   VARCHAR(255),
+    transaction_hash   VARCHAR(255),
+    requester_id       VARCHAR(255) NOT NULL,
+    approver_id        VARCHAR(255),
+    requested_at       TIMESTAMP,
+    approved_at        TIMESTAMP,
+    deployed_at        TIMESTAMP,
+    created_at         TIMESTAMP,
+    updated_at         TIMESTAMP,
+    CONSTRAINT uk_contract_deployment_request_id UNIQUE (request_id)
+);
+
+CREATE TABLE contract_interaction (
+    id                BIGSERIAL PRIMARY KEY,
+    interaction_id    VARCHAR(255) NOT NULL,
+    contract_address  VARCHAR(255) NOT NULL,
+    function_name     VARCHAR(255) NOT NULL,
+    function_params   TEXT,
+    transaction_hash  VARCHAR(255),
+    status            VARCHAR(255) NOT NULL,
+    initiated_by      VARCHAR(255) NOT NULL,
+    app_id            VARCHAR(255),
+    result            TEXT,
+    error_message     TEXT,
+    gas_used          BIGINT,
+    created_at        TIMESTAMP,
+    updated_at        TIMESTAMP,
+    completed_at      TIMESTAMP,
+    CONSTRAINT uk_contract_interaction_interaction_id UNIQUE (interaction_id)
+);
+
+CREATE TABLE contract_library (
+    id           BIGSERIAL PRIMARY KEY,
+    name         VARCHAR(255) NOT NULL,
+    version      VARCHAR(255) NOT NULL,
+    source_code  TEXT NOT NULL,
+    abi          VARCHAR(255) NOT NULL,
+    bytecode     VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP,
+    updated_at   TIMESTAMP,
+    CONSTRAINT uk_contract_library_name UNIQUE (name)
+);
+
+CREATE TABLE contract_registry (
+    id                    BIGSERIAL PRIMARY KEY,
+    contract_address      VARCHAR(255) NOT NULL,
+    contract_name         VARCHAR(255) NOT NULL,
+    version               VARCHAR(255) NOT NULL,
+    network               VARCHAR(255) NOT NULL,
+    owner                 VARCHAR(255) NOT NULL,
+    abi                   VARCHAR(255) NOT NULL,
+    deployment_timestamp  TIMESTAMP NOT NULL,
+    created_at            TIMESTAMP,
+    updated_at            TIMESTAMP,
+    whitelisted           BOOLEAN NOT NULL,
+    whitelist_timestamp   TIMESTAMP,
+    CONSTRAINT uk_contract_registry_contract_address UNIQUE (contract_address)
+);
+
+CREATE TABLE user_account (
+    id              BIGSERIAL PRIMARY KEY,
+    user_id         VARCHAR(255) NOT NULL,
+    username        VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL,
+    department      VARCHAR(255),
+    role            VARCHAR(255),
+    wallet_address  VARCHAR(255),
+    api_key         VARCHAR(255),
+    active          BOOLEAN NOT NULL,
+    created_at      TIMESTAMP,
+    updated_at      TIMESTAMP,
+    last_login      TIMESTAMP,
+    CONSTRAINT uk_user_account_user_id UNIQUE (user_id)
+);
+
+CREATE TABLE smart_contract_deployments (
+    id                     BIGSERIAL PRIMARY KEY,
+    request_id             VARCHAR(255),
+    auth_token             VARCHAR(255),
+    contract_bytecode      VARCHAR(50000),
+    contract_name          VARCHAR(255),
+    constructor_args       VARCHAR(10000),
+    hash_value             VARCHAR(1000),
+    signed_hash            VARCHAR(1000),
+    transaction_hash       VARCHAR(255),
+    contract_address       VARCHAR(255),
+    whitelist_id           VARCHAR(255),
+    whitelist_hash         VARCHAR(1000),
+    signed_whitelist_hash  VARCHAR(1000),
+    current_state          VARCHAR(255),
+    error_message          VARCHAR(2000),
+    created_at             TIMESTAMP,
+    updated_at             TIMESTAMP
+);
@@ -0,0 +1,25 @@
+-- Columns and tables added to the entities after the ddl-auto era, which databases baselined at V1 lack:
+-- the public tracking ID and idempotency key of deployments, the hash metadata kept for resuming
+-- the signing steps, and the token registration outbox.
+
+ALTER TABLE smart_contract_deployments
+    ADD COLUMN tracking_id         VARCHAR(255),
+    ADD COLUMN idempotency_key     VARCHAR(255),
+    ADD COLUMN hash_metadata       VARCHAR(10000),
+    ADD COLUMN whitelist_metadata  VARCHAR(10000),
+    ADD CONSTRAINT uk_smart_contract_deployments_tracking_id UNIQUE (tracking_id),
+    ADD CONSTRAINT uk_smart_contract_deployments_idempotency_key UNIQUE (idempotency_key);
+
+CREATE TABLE token_registration_outbox (
+    id                BIGSERIAL PRIMARY KEY,
+    deployment_id     BIGINT NOT NULL,
+    contract_address  VARCHAR(255),
+    metadata          VARCHAR(10000),
+    status            VARCHAR(255) NOT NULL,
+    attempts          INTEGER NOT NULL,
+    next_attempt_at   TIMESTAMP NOT NULL,
+    last_error        VARCHAR(2000),
+    created_at        TIMESTAMP,
+    processed_at      TIMESTAMP,
+    CONSTRAINT uk_token_registration_outbox_deployment_id UNIQUE (deployment_id)
+);
@@ -0,0 +1,45 @@
+-- Indexes for the derived finders of the repository package.
+-- Unique columns (app_id, request_id, interaction_id, name, contract_address of the registry,
+-- user_id, tracking_id, idempotency_key, deployment_id of the outbox) are already covered
+-- by their unique constraints.
+
+-- AppRegistryRepository
+CREATE INDEX IF NOT EXISTS idx_app_registry_app_name ON app_registry (app_name);
+CREATE INDEX IF NOT EXISTS idx_app_registry_owner_department ON app_registry (owner_department);
+CREATE INDEX IF NOT EXISTS idx_app_registry_api_key ON app_registry (api_key);
+CREATE INDEX IF NOT EXISTS idx_app_registry_active ON app_registry (id) WHERE active;
+
+-- ContractDeploymentRepository
+CREATE INDEX IF NOT EXISTS idx_contract_deployment_contract_name ON contract_deployment (contract_name);
+CREATE INDEX IF NOT EXISTS idx_contract_deployment_status ON contract_deployment (status);
+CREATE INDEX IF NOT EXISTS idx_contract_deployment_requester_id ON contract_deployment (requester_id);
+CREATE INDEX IF NOT EXISTS idx_contract_deployment_contract_address ON contract_deployment (contract_address);
+
+-- ContractInteractionRepository
+CREATE INDEX IF NOT EXISTS idx_contract_interaction_contract_address ON contract_interaction (contract_address);
+CREATE INDEX IF NOT EXISTS idx_contract_interaction_function_name ON contract_interaction (function_name);
+CREATE INDEX IF NOT EXISTS idx_contract_interaction_status ON contract_interaction (status);
+CREATE INDEX IF NOT EXISTS idx_contract_interaction_initiated_by ON contract_interaction (initiated_by);
+CREATE INDEX IF NOT EXISTS idx_contract_interaction_app_id ON contract_interaction (app_id);
+
+-- ContractRegistryRepository
+CREATE INDEX IF NOT EXISTS idx_contract_registry_contract_name ON contract_registry (contract_name);
+CREATE INDEX IF NOT EXISTS idx_contract_registry_network ON contract_registry (network);
+CREATE INDEX IF NOT EXISTS idx_contract_registry_owner ON contract_registry (owner);
+CREATE INDEX IF NOT EXISTS idx_contract_registry_whitelisted ON contract_registry (id) WHERE whitelisted;
+
+-- AccountManagementRepository
+CREATE INDEX IF NOT EXISTS idx_user_account_username ON user_account (username);
+CREATE INDEX IF NOT EXISTS idx_user_account_email ON user_account (email);
+CREATE INDEX IF NOT EXISTS idx_user_account_department ON user_account (department);
+CREATE INDEX IF NOT EXISTS idx_user_account_role ON user_account (role);
+CREATE INDEX IF NOT EXISTS idx_user_account_wallet_address ON user_account (wallet_address);
+CREATE INDEX IF NOT EXISTS idx_user_account_active ON user_account (id) WHERE active;
+
+-- SmartContractDeploymentRepository; (current_state, id) also serves the poller's batches in ID order
+CREATE INDEX IF NOT EXISTS idx_smart_contract_deployments_request_id ON smart_contract_deployments (request_id);
+CREATE INDEX IF NOT EXISTS idx_smart_contract_deployments_state_id ON smart_contract_deployments (current_state, id);
+CREATE INDEX IF NOT EXISTS idx_smart_contract_deployments_contract_address ON smart_contract_deployments (contract_address);
+
+-- TokenRegistrationOutboxRepository: due entries by status and next attempt, claimed in ID order
+CREATE INDEX IF NOT EXISTS idx_token_outbox_status_next_attempt ON token_registration_outbox (status, next_attempt_at);
@@ -0,0 +1,43 @@
+-- Pooled sequences instead of identity columns, so Hibernate can batch inserts.
+-- Each nextval reserves a block of 50 IDs (allocationSize on the entities); the sequences start
+-- above the current maximum, and the serial defaults are dropped so every ID comes from Hibernate.
+
+CREATE SEQUENCE app_registry_seq INCREMENT BY 50;
+SELECT setval('app_registry_seq', COALESCE((SELECT MAX(id) FROM app_registry), 0) + 50);
+ALTER TABLE app_registry ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS app_registry_id_seq;
+
+CREATE SEQUENCE contract_deployment_seq INCREMENT BY 50;
+SELECT setval('contract_deployment_seq', COALESCE((SELECT MAX(id) FROM contract_deployment), 0) + 50);
+ALTER TABLE contract_deployment ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS contract_deployment_id_seq;
+
+CREATE SEQUENCE contract_interaction_seq INCREMENT BY 50;
+SELECT setval('contract_interaction_seq', COALESCE((SELECT MAX(id) FROM contract_interaction), 0) + 50);
+ALTER TABLE contract_interaction ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS contract_interaction_id_seq;
+
+CREATE SEQUENCE contract_library_seq INCREMENT BY 50;
+SELECT setval('contract_library_seq', COALESCE((SELECT MAX(id) FROM contract_library), 0) + 50);
+ALTER TABLE contract_library ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS contract_library_id_seq;
+
+CREATE SEQUENCE contract_registry_seq INCREMENT BY 50;
+SELECT setval('contract_registry_seq', COALESCE((SELECT MAX(id) FROM contract_registry), 0) + 50);
+ALTER TABLE contract_registry ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS contract_registry_id_seq;
+
+CREATE SEQUENCE user_account_seq INCREMENT BY 50;
+SELECT setval('user_account_seq', COALESCE((SELECT MAX(id) FROM user_account), 0) + 50);
+ALTER TABLE user_account ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS user_account_id_seq;
+
+CREATE SEQUENCE smart_contract_deployments_seq INCREMENT BY 50;
+SELECT setval('smart_contract_deployments_seq', COALESCE((SELECT MAX(id) FROM smart_contract_deployments), 0) + 50);
+ALTER TABLE smart_contract_deployments ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS smart_contract_deployments_id_seq;
+
+CREATE SEQUENCE token_registration_outbox_seq INCREMENT BY 50;
+SELECT setval('token_registration_outbox_seq', COALESCE((SELECT MAX(id) FROM token_registration_outbox), 0) + 50);
+ALTER TABLE token_registration_outbox ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS token_registration_outbox_id_seq;
@@ -0,0 +1,21 @@
+-- Composite (filter, id) indexes for the keyset-paginated list endpoints: each page is an index
+-- range scan starting after the cursor's ID, already in ID order, so no sort and no offset.
+-- The unfiltered lists page over the primary key. These supersede the single-column V3 indexes.
+
+-- ContractInteractionRepository
+CREATE INDEX IF NOT EXISTS idx_contract_interaction_contract_address_id ON contract_interaction (contract_address, id);
+CREATE INDEX IF NOT EXISTS idx_contract_interaction_initiated_by_id ON contract_interaction (initiated_by, id);
+CREATE INDEX IF NOT EXISTS idx_contract_interaction_app_id_id ON contract_interaction (app_id, id);
+DROP INDEX IF EXISTS idx_contract_interaction_contract_address;
+DROP INDEX IF EXISTS idx_contract_interaction_initiated_by;
+DROP INDEX IF EXISTS idx_contract_interaction_app_id;
+
+-- AccountManagementRepository
+CREATE INDEX IF NOT EXISTS idx_user_account_department_id ON user_account (department, id);
+CREATE INDEX IF NOT EXISTS idx_user_account_role_id ON user_account (role, id);
+DROP INDEX IF EXISTS idx_user_account_department;
+DROP INDEX IF EXISTS idx_user_account_role;
+
+-- AppRegistryRepository
+CREATE INDEX IF NOT EXISTS idx_app_registry_owner_department_id ON app_registry (owner_department, id);
+DROP INDEX IF EXISTS idx_app_registry_owner_department;
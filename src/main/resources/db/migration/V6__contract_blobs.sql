@@ -0,0 +1,56 @@
+-- Content-addressed store for contract bytecode and ABIs. Library entries, registered contracts
+-- and deployments reference a blob by the hex SHA-256 of its UTF-8 content instead of carrying
+-- their own copy. The application writes blobs gzip-compressed; SQL cannot gzip, so the rows
+-- backfilled here are stored as is ('identity') and read back the same way.
+
+CREATE TABLE contract_blob (
+    hash           VARCHAR(64) PRIMARY KEY,
+    encoding       VARCHAR(16) NOT NULL,
+    original_size  INTEGER NOT NULL,
+    content        BYTEA NOT NULL,
+    created_at     TIMESTAMP NOT NULL
+);
+
+INSERT INTO contract_blob (hash, encoding, original_size, content, created_at)
+SELECT DISTINCT ON (hash) hash, 'identity', char_length(artifact), convert_to(artifact, 'UTF8'), now()
+FROM (
+    SELECT encode(sha256(convert_to(artifact, 'UTF8')), 'hex') AS hash, artifact
+    FROM (
+        SELECT abi AS artifact FROM contract_library
+        UNION ALL SELECT bytecode FROM contract_library
+        UNION ALL SELECT abi FROM contract_registry
+        UNION ALL SELECT contract_bytecode FROM smart_contract_deployments WHERE contract_bytecode IS NOT NULL
+    ) artifacts
+) hashed;
+
+-- contract_library
+ALTER TABLE contract_library
+    ADD COLUMN abi_hash VARCHAR(64),
+    ADD COLUMN bytecode_hash VARCHAR(64);
+UPDATE contract_library
+SET abi_hash = encode(sha256(convert_to(abi, 'UTF8')), 'hex'),
+    bytecode_hash = encode(sha256(convert_to(bytecode, 'UTF8')), 'hex');
+ALTER TABLE contract_library
+    ALTER COLUMN abi_hash SET NOT NULL,
+    ALTER COLUMN bytecode_hash SET NOT NULL,
+    ADD CONSTRAINT fk_contract_library_abi FOREIGN KEY (abi_hash) REFERENCES contract_blob (hash),
+    ADD CONSTRAINT fk_contract_library_bytecode FOREIGN KEY (bytecode_hash) REFERENCES contract_blob (hash),
+    DROP COLUMN abi,
+    DROP COLUMN bytecode;
+
+-- contract_registry
+ALTER TABLE contract_registry ADD COLUMN abi_hash VARCHAR(64);
+UPDATE contract_registry SET abi_hash = encode(sha256(convert_to(abi, 'UTF8')), 'hex');
+ALTER TABLE contract_registry
+    ALTER COLUMN abi_hash SET NOT NULL,
+    ADD CONSTRAINT fk_contract_registry_abi FOREIGN KEY (abi_hash) REFERENCES contract_blob (hash),
+    DROP COLUMN abi;
+
+-- smart_contract_deployments
+ALTER TABLE smart_contract_deployments ADD COLUMN contract_bytecode_hash VARCHAR(64);
+UPDATE smart_contract_deployments
+SET contract_bytecode_hash = encode(sha256(convert_to(contract_bytecode, 'UTF8')), 'hex')
+WHERE contract_bytecode IS NOT NULL;
+ALTER TABLE smart_contract_deployments
+    ADD CONSTRAINT fk_smart_contract_deployments_bytecode FOREIGN KEY (contract_bytecode_hash) REFERENCES contract_blob (hash),
+    DROP COLUMN contract_bytecode;
@@ -0,0 +1,64 @@
+-- Monthly range partitioning of contract_interaction on created_at.
+-- The table is rebuilt as a partitioned table and its rows copied over. Partitions are named
+-- contract_interaction_pYYYYMM; this migration creates them from the oldest row through three months
+-- ahead, and ContractInteractionPartitionMaintainer keeps creating upcoming ones and detaches the
+-- ones past retention. The default partition only catches rows if maintenance has fallen behind.
+-- A partitioned table's unique constraints must include the partition key, so the primary key is
+-- (id, created_at) and interaction_id is unique per created_at; both IDs are generated by the application.
+
+CREATE TABLE contract_interaction_partitioned (
+    id                BIGINT NOT NULL,
+    interaction_id    VARCHAR(255) NOT NULL,
+    contract_address  VARCHAR(255) NOT NULL,
+    function_name     VARCHAR(255) NOT NULL,
+    function_params   TEXT,
+    transaction_hash  VARCHAR(255),
+    status            VARCHAR(255) NOT NULL,
+    initiated_by      VARCHAR(255) NOT NULL,
+    app_id            VARCHAR(255),
+    result            TEXT,
+    error_message     TEXT,
+    gas_used          BIGINT,
+    created_at        TIMESTAMP NOT NULL,
+    updated_at        TIMESTAMP,
+    completed_at      TIMESTAMP
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    month DATE := date_trunc('month', COALESCE(
+            (SELECT MIN(COALESCE(created_at, updated_at, completed_at)) FROM contract_interaction), now()))::date;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE contract_interaction_p%s PARTITION OF contract_interaction_partitioned '
+                || 'FOR VALUES FROM (%L) TO (%L)',
+                to_char(month, 'YYYYMM'), month, (month + INTERVAL '1 month')::date);
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+CREATE TABLE contract_interaction_default PARTITION OF contract_interaction_partitioned DEFAULT;
+
+INSERT INTO contract_interaction_partitioned (id, interaction_id, contract_address, function_name, function_params,
+        transaction_hash, status, initiated_by, app_id, result, error_message, gas_used, created_at, updated_at,
+        completed_at)
+SELECT id, interaction_id, contract_address, function_name, function_params, transaction_hash, status,
+        initiated_by, app_id, result, error_message, gas_used, COALESCE(created_at, updated_at, completed_at, now()),
+        updated_at, completed_at
+FROM contract_interaction;
+
+-- Also drops the V3 and V5 indexes, which are recreated on the partitioned table below
+DROP TABLE contract_interaction;
+ALTER TABLE contract_interaction_partitioned RENAME TO contract_interaction;
+
+ALTER TABLE contract_interaction ADD CONSTRAINT contract_interaction_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE contract_interaction ADD CONSTRAINT uk_contract_interaction_interaction_id UNIQUE (interaction_id, created_at);
+CREATE INDEX idx_contract_interaction_contract_address_id ON contract_interaction (contract_address, id);
+CREATE INDEX idx_contract_interaction_initiated_by_id ON contract_interaction (initiated_by, id);
+CREATE INDEX idx_contract_interaction_app_id_id ON contract_interaction (app_id, id);
+CREATE INDEX idx_contract_interaction_function_name ON contract_interaction (function_name);
+CREATE INDEX idx_contract_interaction_status ON contract_interaction (status);
+
+-- Partitions past retention are moved here when the retention action is "archive"
+CREATE SCHEMA IF NOT EXISTS contract_archive;
@@ -0,0 +1,14 @@
+-- The partitioned contract_interaction can only enforce UNIQUE (interaction_id, created_at), so the same
+-- interaction ID could be stored in two months. Each interaction ID is reserved here first; the primary
+-- key makes it unique across all partitions. created_at is the reservation time, used to release the
+-- IDs of retired partitions.
+
+CREATE TABLE contract_interaction_key (
+    interaction_id  VARCHAR(255) PRIMARY KEY,
+    created_at      TIMESTAMP NOT NULL
+);
+
+INSERT INTO contract_interaction_key (interaction_id, created_at)
+SELECT interaction_id, MIN(created_at)
+FROM contract_interaction
+GROUP BY interaction_id;
@@ -0,0 +1,178 @@
+package com.statestreet.contractregistry.benchmark;
+
+import com.statestreet.contractregistry.entity.ContractInteraction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures ContractInteraction insert throughput against PostgreSQL, before and after the pooled sequences:
+ * identity IDs, one INSERT ... RETURNING id round-trip per row, against pooled sequence IDs sent in
+ * JDBC batches of hibernate.jdbc.batch_size.
+ * Runs only with -Dbenchmark=true, on a PostgreSQL container, or on an existing database given by
+ * -Dbenchmark.jdbc-url (with -Dbenchmark.username and -Dbenchmark.password). Add
+ * -Dspring.profiles.active=bulk-write to include insert rewriting. The identity baseline is written to a
+ * scratch copy of contract_interaction, which is dropped afterwards, so the schema of an existing database is
+ * left as it is; the pooled rows are deleted afterwards.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.show-sql=false",
+        // The scratch table of the identity baseline does not exist yet when the schema would be validated
+        "spring.jpa.hibernate.ddl-auto=none",
+        "deployment.status-poller.enabled=false",
+        "deployment.token-outbox.enabled=false",
+        "contract-interaction.partitions.maintenance.enabled=false"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ContractInteractionInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractInteractionInsertBenchmarkTest.class);
+
+    private static final String EXTERNAL_URL = System.getProperty("benchmark.jdbc-url");
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20000);
+    private static final int CHUNK_SIZE = Integer.getInteger("benchmark.chunk-size", 1000);
+    static final String IDENTITY_TABLE = "contract_interaction_identity_benchmark";
+
+    private static PostgreSQLContainer<?> postgres;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:1}")
+    private int batchSize;
+
+    @BeforeAll
+    static void requireDatabase() {
+        assumeTrue(EXTERNAL_URL != null || DockerClientFactory.instance().isDockerAvailable(),
+                "Docker is not available and no -Dbenchmark.jdbc-url was given");
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        if (EXTERNAL_URL != null) {
+            registry.add("spring.datasource.url", () -> EXTERNAL_URL);
+            registry.add("spring.datasource.username", () -> System.getProperty("benchmark.username", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("benchmark.password", "postgres"));
+            return;
+        }
+        postgres = new PostgreSQLContainer<>("postgres:14-alpine");
+        postgres.start();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Test
+    void identityInsertsAgainstPooledSequenceBatches() {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        createIdentityTable();
+        try {
+            // Warm up the connection pool, sequence and statement caches
+            insert(Math.min(ROWS, 1000), i -> identityInteraction("warmup-identity-" + runId, i));
+            insert(Math.min(ROWS, 1000), i -> interaction("warmup-pooled-" + runId, i));
+
+            double identity = insert(ROWS, i -> identityInteraction("identity-" + runId, i));
+            double pooled = insert(ROWS, i -> interaction("pooled-" + runId, i));
+
+            log.info("ContractInteraction inserts ({} rows, batch_size {}): {} rows/s with identity IDs, "
+                            + "{} rows/s with pooled sequences and batching ({}x)",
+                    ROWS, batchSize, Math.round(identity), Math.round(pooled), String.format("%.1f", pooled / identity));
+
+            Integer identityRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + IDENTITY_TABLE, Integer.class);
+            Integer pooledRows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM contract_interaction WHERE interaction_id LIKE ?", Integer.class, "%-" + runId + "-%");
+            assertThat(identityRows).isEqualTo(ROWS + Math.min(ROWS, 1000));
+            assertThat(pooledRows).isEqualTo(ROWS + Math.min(ROWS, 1000));
+        } finally {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+            jdbcTemplate.update("DELETE FROM contract_interaction WHERE interaction_id LIKE ?", "%-" + runId + "-%");
+        }
+    }
+
+    /**
+     * Copies contract_interaction, with its indexes and a partition, and gives the copy the identity ID
+     * column the table had before the pooled sequences
+     */
+    private void createIdentityTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + IDENTITY_TABLE
+                + " (LIKE contract_interaction INCLUDING DEFAULTS INCLUDING INDEXES) PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + IDENTITY_TABLE + " ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY");
+        jdbcTemplate.execute("CREATE TABLE " + IDENTITY_TABLE + "_default PARTITION OF " + IDENTITY_TABLE + " DEFAULT");
+    }
+
+    /**
+     * Persists count entities in transactions of chunk-size rows and returns the rate in rows per second.
+     * The persistence context is flushed and cleared every batch_size rows; identity inserts have
+     * already been sent one by one when persist returned.
+     */
+    private double insert(int count, IntFunction<Object> entity) {
+        long start = System.nanoTime();
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            int first = from;
+            int last = Math.min(from + CHUNK_SIZE, count);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = first; i < last; i++) {
+                    entityManager.persist(entity.apply(i));
+                    if ((i + 1) % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            });
+        }
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static IdentityContractInteraction identityInteraction(String prefix, int i) {
+        return new IdentityContractInteraction(prefix + "-" + i, "0x000000000000000000000000000000000000beef",
+                "transfer", "{\"to\":\"0x0\",\"amount\":" + i + "}", "COMPLETED", "benchmark", LocalDateTime.now());
+    }
+
+    private static ContractInteraction interaction(String prefix, int i) {
+        LocalDateTime now = LocalDateTime.now();
+        return ContractInteraction.builder()
+                .interactionId(prefix + "-" + i)
+                .contractAddress("0x000000000000000000000000000000000000beef")
+                .functionName("transfer")
+                .functionParams("{\"to\":\"0x0\",\"amount\":" + i + "}")
+                .status("COMPLETED")
+                .initiatedBy("benchmark")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
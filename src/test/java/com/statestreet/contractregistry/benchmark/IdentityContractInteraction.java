@@ -0,0 +1,61 @@
+package com.statestreet.contractregistry.benchmark;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * contract_interaction mapped with the identity IDs it had before the pooled sequences:
+ * Hibernate sends every insert on its own and reads the ID back through RETURNING id.
+ * Only used by {@link ContractInteractionInsertBenchmarkTest}, which creates the scratch table for the run.
+ */
+@Entity(name = "IdentityContractInteraction")
+@Table(name = ContractInteractionInsertBenchmarkTest.IDENTITY_TABLE)
+class IdentityContractInteraction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "interaction_id", nullable = false)
+    private String interactionId;
+
+    @Column(name = "contract_address", nullable = false)
+    private String contractAddress;
+
+    @Column(name = "function_name", nullable = false)
+    private String functionName;
+
+    @Column(name = "function_params", columnDefinition = "TEXT")
+    private String functionParams;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "initiated_by", nullable = false)
+    private String initiatedBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    protected IdentityContractInteraction() {}
+
+    IdentityContractInteraction(String interactionId, String contractAddress, String functionName,
+            String functionParams, String status, String initiatedBy, LocalDateTime createdAt) {
+        this.interactionId = interactionId;
+        this.contractAddress = contractAddress;
+        this.functionName = functionName;
+        this.functionParams = functionParams;
+        this.status = status;
+        this.initiatedBy = initiatedBy;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+}
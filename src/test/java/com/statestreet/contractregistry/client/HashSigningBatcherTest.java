@@ -0,0 +1,128 @@
+package com.statestreet.contractregistry.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HashSigningBatcherTest {
+
+    private final HashSigningServiceClient client = mock(HashSigningServiceClient.class);
+    private HashSigningBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingForTheTimer() {
+        batcher = batcher(true, 3, 10_000, 4, 100);
+        signEachHash();
+
+        List<CompletableFuture<String>> signatures = submit("h1", "h2", "h3");
+
+        assertThat(join(signatures)).containsExactly("signed-h1", "signed-h2", "signed-h3");
+        verify(client).signHashes(List.of("h1", "h2", "h3"), List.of("m-h1", "m-h2", "m-h3"));
+        verify(client, never()).signHash(anyString(), anyString());
+    }
+
+    @Test
+    void partialBatchIsSentWhenTheTimerFires() {
+        batcher = batcher(true, 50, 100, 4, 100);
+        signEachHash();
+
+        List<CompletableFuture<String>> signatures = submit("h1", "h2");
+
+        assertThat(signatures).noneMatch(CompletableFuture::isDone);
+        assertThat(join(signatures)).containsExactly("signed-h1", "signed-h2");
+        verify(client).signHashes(List.of("h1", "h2"), List.of("m-h1", "m-h2"));
+    }
+
+    @Test
+    void unsupportedBatchEndpointFallsBackToSingleCalls() {
+        batcher = batcher(true, 2, 10_000, 4, 100);
+        when(client.signHashes(anyList(), anyList()))
+                .thenThrow(new BatchSigningUnsupportedException("404 Not Found", null));
+        when(client.signHash(anyString(), anyString())).thenAnswer(call -> "signed-" + call.getArgument(0));
+
+        assertThat(join(submit("h1", "h2"))).containsExactly("signed-h1", "signed-h2");
+        assertThat(batcher.isEnabled()).isFalse();
+
+        // Later signatures skip the batch endpoint and run on the caller's thread
+        assertThat(batcher.signHash("h3", "m-h3")).isEqualTo("signed-h3");
+        verify(client).signHashes(anyList(), anyList());
+    }
+
+    @Test
+    void signaturesAreRejectedWhenTheSenderQueueIsFull() throws InterruptedException {
+        batcher = batcher(false, 50, 5, 1, 1);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.signHash(anyString(), anyString())).thenAnswer(call -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "signed-" + call.getArgument(0);
+        });
+
+        CompletableFuture<String> running = batcher.submit("h1", "m-h1");
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = batcher.submit("h2", "m-h2");
+        CompletableFuture<String> rejected = batcher.submit("h3", "m-h3");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.handle((signature, e) -> e)).isCompletedWithValueMatching(
+                e -> e instanceof RejectedExecutionException);
+        release.countDown();
+        assertThat(join(List.of(running, queued))).containsExactly("signed-h1", "signed-h2");
+        verify(client, timeout(1000).times(2)).signHash(anyString(), anyString());
+        verify(client, never()).signHash(eq("h3"), any());
+    }
+
+    private HashSigningBatcher batcher(boolean enabled, int maxBatchSize, long maxDelayMs, int threads, int queueCapacity) {
+        HashSigningBatcher batcher = new HashSigningBatcher(client, threads, queueCapacity);
+        ReflectionTestUtils.setField(batcher, "enabled", enabled);
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", maxBatchSize);
+        ReflectionTestUtils.setField(batcher, "maxDelayMs", maxDelayMs);
+        ReflectionTestUtils.setField(batcher, "timeoutMs", 5000L);
+        return batcher;
+    }
+
+    private void signEachHash() {
+        when(client.signHashes(anyList(), anyList())).thenAnswer(call -> {
+            List<String> hashes = call.getArgument(0);
+            return hashes.stream().map(hash -> "signed-" + hash).collect(Collectors.toList());
+        });
+    }
+
+    private List<CompletableFuture<String>> submit(String... hashes) {
+        return List.of(hashes).stream()
+                .map(hash -> batcher.submit(hash, "m-" + hash))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> join(List<CompletableFuture<String>> signatures) {
+        return signatures.stream()
+                .map(signature -> signature.orTimeout(5, TimeUnit.SECONDS).join())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,163 @@
+package com.statestreet.contractregistry.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaurusAuthTokenProviderTest {
+
+    private static final int CALLERS = 8;
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private final AtomicInteger issued = new AtomicInteger();
+    private final CountDownLatch authenticating = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private TaurusAuthTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new TaurusAuthTokenProvider(restTemplate);
+        ReflectionTestUtils.setField(provider, "baseUrl", "http://taurus");
+        ReflectionTestUtils.setField(provider, "authEndpoint", "/auth");
+        ReflectionTestUtils.setField(provider, "clientId", "client");
+        ReflectionTestUtils.setField(provider, "clientSecret", "secret");
+        ReflectionTestUtils.setField(provider, "defaultTtlSeconds", 300L);
+        ReflectionTestUtils.setField(provider, "refreshAheadSeconds", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersWithoutTokenShareOneRefresh() throws Exception {
+        authenticateSlowly(300);
+
+        List<Future<String>> tokens = getTokenConcurrently();
+        assertThat(authenticating.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        for (Future<String> token : tokens) {
+            assertThat(token.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+        }
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(JsonNode.class));
+
+        // The cached token is served without authenticating again
+        assertThat(provider.getToken()).isEqualTo("token-1");
+        assertThat(issued.get()).isEqualTo(1);
+    }
+
+    @Test
+    void callersInsideRefreshWindowKeepCurrentTokenWhileOneRefreshes() throws Exception {
+        // Refreshed after half of the 2 s lifetime
+        authenticateSlowly(2);
+        release.countDown();
+        assertThat(provider.getToken()).isEqualTo("token-1");
+
+        Thread.sleep(1100);
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch finishRefresh = new CountDownLatch(1);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(JsonNode.class)))
+                .thenAnswer(call -> {
+                    refreshing.countDown();
+                    finishRefresh.await(5, TimeUnit.SECONDS);
+                    return tokenResponse(300);
+                });
+        Future<String> refresher = callers.submit(provider::getToken);
+        assertThat(refreshing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(provider.getToken()).isEqualTo("token-1");
+        finishRefresh.countDown();
+        assertThat(refresher.get(5, TimeUnit.SECONDS)).isEqualTo("token-2");
+        assertThat(provider.getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    void failedRefreshFailsEveryWaitingCaller() throws Exception {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(JsonNode.class)))
+                .thenAnswer(call -> {
+                    authenticating.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    throw new ResourceAccessException("Connection refused");
+                });
+
+        List<Future<String>> tokens = getTokenConcurrently();
+        assertThat(authenticating.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        for (Future<String> token : tokens) {
+            assertThatThrownBy(() -> token.get(5, TimeUnit.SECONDS))
+                    .hasRootCauseInstanceOf(ResourceAccessException.class);
+        }
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(JsonNode.class));
+    }
+
+    /**
+     * Starts the callers together, so they all ask for a token while the first authentication is in flight
+     */
+    private List<Future<String>> getTokenConcurrently() throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        CompletableFuture<Void> start = new CompletableFuture<>();
+        List<Future<String>> tokens = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            tokens.add(callers.submit(() -> {
+                ready.countDown();
+                start.join();
+                return provider.getToken();
+            }));
+        }
+        assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+        start.complete(null);
+        return tokens;
+    }
+
+    private void authenticateSlowly(long ttlSeconds) {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(JsonNode.class)))
+                .thenAnswer(call -> {
+                    authenticating.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    // Give late callers time to find the refresh in flight
+                    Thread.sleep(50);
+                    return tokenResponse(ttlSeconds);
+                });
+    }
+
+    private ResponseEntity<JsonNode> tokenResponse(long ttlSeconds) {
+        ObjectNode body = JsonNodeFactory.instance.objectNode()
+                .put("access_token", "token-" + issued.incrementAndGet())
+                .put("expires_in", ttlSeconds);
+        return ResponseEntity.ok(body);
+    }
+}
@@ -0,0 +1,230 @@
+package com.statestreet.contractregistry.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaurusReadHedgerTest {
+
+    private static final long HEDGE_DELAY_MS = 50;
+
+    private MeterRegistry meterRegistry;
+    private TaurusReadHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hedger = new TaurusReadHedger(meterRegistry, 4);
+        ReflectionTestUtils.setField(hedger, "enabled", true);
+        ReflectionTestUtils.setField(hedger, "percentile", 0.95);
+        ReflectionTestUtils.setField(hedger, "minDelayMs", HEDGE_DELAY_MS);
+        // Until min-samples reads are recorded the delay stays at max-delay-ms
+        ReflectionTestUtils.setField(hedger, "maxDelayMs", HEDGE_DELAY_MS);
+        ReflectionTestUtils.setField(hedger, "windowSize", 100);
+        ReflectionTestUtils.setField(hedger, "minSamples", 1000);
+        ReflectionTestUtils.setField(hedger, "depositPerRead", 1.0);
+        ReflectionTestUtils.setField(hedger, "maxTokens", 10.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.shutdown();
+    }
+
+    @Test
+    void fastReadRunsOnCallerWithoutHedge() {
+        FakeReads reads = new FakeReads(Read.answer("primary", 0));
+
+        assertThat(hedger.call("op", reads)).isEqualTo("primary");
+
+        assertThat(reads.threads).containsExactly(Thread.currentThread());
+        assertThat(counter("taurus.hedge.reads")).isEqualTo(1);
+        assertThat(counter("taurus.hedge.sent")).isZero();
+    }
+
+    @Test
+    void hedgeThatAnswersFirstWinsAndAbortsOriginal() {
+        FakeReads reads = new FakeReads(Read.untilAborted(), Read.answer("hedge", 0));
+
+        long start = System.nanoTime();
+        assertThat(hedger.call("op", reads)).isEqualTo("hedge");
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+        assertThat(reads.aborted(0)).isTrue();
+        assertThat(counter("taurus.hedge.sent")).isEqualTo(1);
+        assertThat(counter("taurus.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void originalThatAnswersFirstWinsAndAbortsHedge() throws InterruptedException {
+        FakeReads reads = new FakeReads(Read.answer("primary", 4 * HEDGE_DELAY_MS), Read.untilAborted());
+
+        assertThat(hedger.call("op", reads)).isEqualTo("primary");
+
+        assertThat(reads.awaitAborted(1)).isTrue();
+        assertThat(counter("taurus.hedge.sent")).isEqualTo(1);
+        assertThat(counter("taurus.hedge.wins")).isZero();
+    }
+
+    @Test
+    void failedOriginalWaitsForHedgeInFlight() {
+        FakeReads reads = new FakeReads(Read.failure("primary failed", 2 * HEDGE_DELAY_MS), Read.answer("hedge", 4 * HEDGE_DELAY_MS));
+
+        assertThat(hedger.call("op", reads)).isEqualTo("hedge");
+
+        assertThat(counter("taurus.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void failedHedgeLeavesOriginalAnswer() {
+        FakeReads reads = new FakeReads(Read.answer("primary", 4 * HEDGE_DELAY_MS), Read.failure("hedge failed", 0));
+
+        assertThat(hedger.call("op", reads)).isEqualTo("primary");
+
+        assertThat(counter("taurus.hedge.sent")).isEqualTo(1);
+        assertThat(counter("taurus.hedge.wins")).isZero();
+    }
+
+    @Test
+    void originalFailureIsThrownWhenHedgeFailsToo() {
+        FakeReads reads = new FakeReads(Read.failure("primary failed", 2 * HEDGE_DELAY_MS), Read.failure("hedge failed", 0));
+
+        assertThatThrownBy(() -> hedger.call("op", reads)).hasMessage("primary failed");
+    }
+
+    @Test
+    void budgetCapsHedgesAtMaxTokens() {
+        ReflectionTestUtils.setField(hedger, "depositPerRead", 0.4);
+        ReflectionTestUtils.setField(hedger, "maxTokens", 1.0);
+        for (int i = 0; i < 10; i++) {
+            hedger.call("op", new FakeReads(Read.answer("fast", 0)));
+        }
+
+        // Ten reads earned four hedges, but only one is kept
+        hedger.call("op", new FakeReads(Read.answer("slow", 3 * HEDGE_DELAY_MS), Read.answer("hedge", 0)));
+        FakeReads unhedged = new FakeReads(Read.answer("slow", 3 * HEDGE_DELAY_MS), Read.answer("hedge", 0));
+        assertThat(hedger.call("op", unhedged)).isEqualTo("slow");
+
+        assertThat(unhedged.calls.get()).isEqualTo(1);
+        assertThat(counter("taurus.hedge.reads")).isEqualTo(12);
+        assertThat(counter("taurus.hedge.sent")).isEqualTo(1);
+        assertThat(counter("taurus.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void budgetNeedsAWholeTokenToHedge() {
+        ReflectionTestUtils.setField(hedger, "depositPerRead", 0.5);
+
+        FakeReads first = new FakeReads(Read.answer("slow", 3 * HEDGE_DELAY_MS), Read.answer("hedge", 0));
+        assertThat(hedger.call("op", first)).isEqualTo("slow");
+        FakeReads second = new FakeReads(Read.answer("slow", 3 * HEDGE_DELAY_MS), Read.answer("hedge", 0));
+        assertThat(hedger.call("op", second)).isEqualTo("hedge");
+
+        assertThat(first.calls.get()).isEqualTo(1);
+        assertThat(counter("taurus.hedge.sent")).isEqualTo(1);
+    }
+
+    @Test
+    void disabledHedgerRunsReadAsIs() {
+        ReflectionTestUtils.setField(hedger, "enabled", false);
+        FakeReads reads = new FakeReads(Read.answer("slow", 2 * HEDGE_DELAY_MS), Read.answer("hedge", 0));
+
+        assertThat(hedger.call("op", reads)).isEqualTo("slow");
+
+        assertThat(reads.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.find("taurus.hedge.reads").counter()).isNull();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("operation", "op").counter().count();
+    }
+
+    /**
+     * Behaviour of one attempt of a read
+     */
+    private interface Read {
+
+        String run(CountDownLatch aborted) throws InterruptedException;
+
+        static Read answer(String value, long delayMs) {
+            return aborted -> {
+                Thread.sleep(delayMs);
+                return value;
+            };
+        }
+
+        static Read failure(String message, long delayMs) {
+            return aborted -> {
+                Thread.sleep(delayMs);
+                throw new IllegalStateException(message);
+            };
+        }
+
+        /**
+         * Blocks like a slow socket read until its request is aborted
+         */
+        static Read untilAborted() {
+            return aborted -> {
+                if (!aborted.await(10, TimeUnit.SECONDS)) {
+                    return "never aborted";
+                }
+                throw new IllegalStateException("aborted");
+            };
+        }
+    }
+
+    /**
+     * Read whose n-th call behaves as the n-th given attempt, registering an abort hook like the request factories do
+     */
+    private static final class FakeReads implements Supplier<String> {
+
+        private final Read[] attempts;
+        private final List<CountDownLatch> abortLatches = new ArrayList<>();
+        private final List<Thread> threads = new ArrayList<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private FakeReads(Read... attempts) {
+            this.attempts = attempts;
+            for (int i = 0; i < attempts.length; i++) {
+                abortLatches.add(new CountDownLatch(1));
+            }
+        }
+
+        @Override
+        public String get() {
+            int attempt = calls.getAndIncrement();
+            synchronized (this) {
+                threads.add(Thread.currentThread());
+            }
+            CountDownLatch aborted = abortLatches.get(attempt);
+            InFlightRead.onAbort(aborted::countDown);
+            try {
+                return attempts[attempt].run(aborted);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        boolean aborted(int attempt) {
+            return abortLatches.get(attempt).getCount() == 0;
+        }
+
+        boolean awaitAborted(int attempt) throws InterruptedException {
+            return abortLatches.get(attempt).await(5, TimeUnit.SECONDS);
+        }
+    }
+}